@@ -0,0 +1,116 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.annotation.AnnotationUtil;
+import tk.freaxsoftware.extras.bus.annotation.Receive;
+import tk.freaxsoftware.extras.bus.annotation.ReflectReceiver;
+
+/**
+ * Compares annotation driven receivers with hand-written receiver and plain reflection call.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class AnnotationReceiverBenchmark {
+    
+    private static final String DIRECT_TOPIC = "Bench.Annotation.Direct";
+    
+    private static final String ANNOTATED_TOPIC = "Bench.Annotation.Annotated";
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().sync().build();
+    
+    private final CountingReceiver target = new CountingReceiver();
+    
+    private final Receiver directReceiver = (message) -> target.receive(message);
+    
+    private ReflectReceiver reflectReceiver;
+    
+    private Method method;
+    
+    private MessageHolder holder;
+    
+    @Setup
+    public void setUp() throws Exception {
+        MessageBus.init();
+        MessageBus.addSubscription(DIRECT_TOPIC, directReceiver);
+        AnnotationUtil.subscribeReceiverInstance(new CountingReceiver());
+        method = CountingReceiver.class.getMethod("receive", MessageHolder.class);
+        reflectReceiver = new ReflectReceiver(new String[] {ANNOTATED_TOPIC}, method, target);
+        holder = new MessageHolder(DIRECT_TOPIC, options, Boolean.TRUE);
+    }
+    
+    @Benchmark
+    public void directReceive() throws Exception {
+        directReceiver.receive(holder);
+    }
+    
+    @Benchmark
+    public void annotatedReceive() throws Exception {
+        reflectReceiver.receive(holder);
+    }
+    
+    @Benchmark
+    public void reflectionInvoke() throws Exception {
+        method.invoke(target, holder);
+    }
+    
+    @Benchmark
+    public void fireDirect() {
+        MessageBus.fire(DIRECT_TOPIC, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public void fireAnnotated() {
+        MessageBus.fire(ANNOTATED_TOPIC, Boolean.TRUE, options);
+    }
+    
+    /**
+     * Annotated receiver.
+     */
+    public static class CountingReceiver {
+        
+        private long count;
+        
+        @Receive(ANNOTATED_TOPIC)
+        public void receive(MessageHolder message) {
+            count++;
+        }
+    }
+}
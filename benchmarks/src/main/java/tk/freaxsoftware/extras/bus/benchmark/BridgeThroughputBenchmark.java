@@ -0,0 +1,140 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.bridge.http.BridgeHttpClient;
+import tk.freaxsoftware.extras.bus.bridge.http.EntryBatcher;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+import tk.freaxsoftware.extras.bus.bridge.http.MessagePeerSender;
+import tk.freaxsoftware.extras.bus.bridge.http.MessageServer;
+import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+import tk.freaxsoftware.extras.bus.config.http.BatchConfig;
+import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
+import tk.freaxsoftware.extras.bus.storage.StorageInterceptorFactory;
+
+/**
+ * Measures throughput of bridged messages sent to local HTTP server: 
+ * new client per request (previous behavior) against shared pooled client, single and batched sends.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class BridgeThroughputBenchmark {
+    
+    private static final String TOPIC = "Bench.Bridge";
+    
+    private static final int PORT = 18401;
+    
+    private static final String URL = "http://127.0.0.1:" + PORT + "/broker/message";
+    
+    private String json;
+    
+    private MessagePeerSender sender;
+    
+    private MessagePeerSender batchedSender;
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init();
+        MessageBus.addSubscription(TOPIC, (holder) -> {});
+        ServerConfig config = new ServerConfig();
+        config.setHttpPort(PORT);
+        new MessageServer().init(config, StorageInterceptorFactory.interceptor(null));
+        Map<String, String> headers = new HashMap<>();
+        headers.put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.ASYNC.name());
+        json = GsonUtils.getGson().toJson(new HttpMessageEntry("id", "trxId", ZonedDateTime.now(), null, 
+                MessageStatus.NEW, TOPIC, headers, "Content"));
+        sender = new MessagePeerSender("127.0.0.1", PORT);
+        sender.addSubscription(TOPIC);
+        BatchConfig batching = new BatchConfig();
+        batching.setMaxBatchSize(100);
+        batching.setLingerMillis(2);
+        EntryBatcher.setDefaultConfig(batching);
+        batchedSender = new MessagePeerSender("127.0.0.1", PORT);
+        batchedSender.addSubscription(TOPIC);
+        EntryBatcher.setDefaultConfig(null);
+    }
+    
+    @Benchmark
+    public int clientPerRequest() throws Exception {
+        try (CloseableHttpClient client = HttpClientBuilder.create().build()) {
+            return post(client);
+        }
+    }
+    
+    @Benchmark
+    public int pooledClient() throws Exception {
+        return post(BridgeHttpClient.getShared().getClient());
+    }
+    
+    @Benchmark
+    public MessageHolder peerSender() throws Exception {
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), "Content");
+        sender.receive(holder);
+        return holder;
+    }
+    
+    @Benchmark
+    public MessageHolder batchedPeerSender() throws Exception {
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), "Content");
+        batchedSender.receive(holder);
+        return holder;
+    }
+    
+    private int post(CloseableHttpClient client) throws Exception {
+        HttpPost request = new HttpPost(URL);
+        request.setEntity(new StringEntity(json, ContentType.APPLICATION_JSON));
+        try (CloseableHttpResponse response = client.execute(request)) {
+            EntityUtils.consume(response.getEntity());
+            return response.getStatusLine().getStatusCode();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.BatchReceiver;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Compares firing small messages one by one against firing them by batch.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class FireBatchBenchmark {
+    
+    private static final String SINGLE_TOPIC = "Bench.Batch.Single";
+    
+    private static final String BATCH_TOPIC = "Bench.Batch.Batch";
+    
+    private static final int MESSAGES = 1000;
+    
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().sync().build();
+    
+    private final LongAdder received = new LongAdder();
+    
+    private final List<List<Integer>> batches = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init();
+        MessageBus.addSubscription(SINGLE_TOPIC, (holder) -> received.increment());
+        MessageBus.addSubscription(BATCH_TOPIC, (BatchReceiver<Integer>) (holders) -> received.add(holders.size()));
+        List<Integer> batch = new ArrayList<>();
+        for (int index = 0; index < MESSAGES; index++) {
+            batch.add(index);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void fireSingle() {
+        for (int index = 0; index < MESSAGES; index++) {
+            MessageBus.fire(SINGLE_TOPIC, index, options);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void fireBatch() {
+        for (List<Integer> batch: batches) {
+            MessageBus.fireBatch(BATCH_TOPIC, batch, options);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Measures throughput of sync and async fire for each thread pool type.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class FireBenchmark {
+    
+    private static final String SYNC_TOPIC = "Bench.Fire.Sync";
+    
+    private static final String ASYNC_TOPIC = "Bench.Fire.Async";
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    @Param({"bus_single_pool.json", "bus_fixed_pool.json", "bus_cached_pool.json", 
+        "bus_fork_join_pool.json", "bus_virtual_pool.json"})
+    private String config;
+    
+    private volatile CountDownLatch latch;
+    
+    private final MessageOptions syncOptions = MessageOptions.Builder.newInstance().sync().build();
+    
+    private final MessageOptions asyncOptions = MessageOptions.Builder.newInstance().async().build();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init(config);
+        MessageBus.addSubscription(SYNC_TOPIC, (holder) -> {});
+        MessageBus.addSubscription(ASYNC_TOPIC, (holder) -> latch.countDown());
+    }
+    
+    @Setup(Level.Invocation)
+    public void resetLatch() {
+        latch = new CountDownLatch(BATCH_SIZE);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void fireSync() {
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            MessageBus.fire(SYNC_TOPIC, index, syncOptions);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void fireAsync() throws InterruptedException {
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            MessageBus.fire(ASYNC_TOPIC, index, asyncOptions);
+        }
+        latch.await();
+    }
+}
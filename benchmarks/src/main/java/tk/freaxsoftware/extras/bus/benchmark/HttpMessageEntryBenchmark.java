@@ -0,0 +1,115 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntryUtil;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecs;
+import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+
+/**
+ * Measures serialization of HTTP bridge message entries depending on content size.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class HttpMessageEntryBenchmark {
+    
+    @Param({"1", "100", "10000"})
+    private int contentSize;
+    
+    private final Gson gson = GsonUtils.getGson();
+    
+    private final HttpMessageEntryUtil messageUtil = new HttpMessageEntryUtil();
+    
+    private HttpMessageEntry entry;
+    
+    private String json;
+    
+    private byte[] binary;
+    
+    @Setup
+    public void setUp() {
+        List<String> content = new ArrayList<>(contentSize);
+        for (int index = 0; index < contentSize; index++) {
+            content.add("Item" + index);
+        }
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Bench.Header", "Value");
+        entry = new HttpMessageEntry("id", "trxId", ZonedDateTime.now(), null, MessageStatus.NEW, 
+                "Bench.Http.Entry", headers, content);
+        json = gson.toJson(entry);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            MessageCodecs.BINARY.encode(entry, out);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        binary = out.toByteArray();
+    }
+    
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(entry);
+    }
+    
+    @Benchmark
+    public HttpMessageEntry deserialize() throws ClassNotFoundException {
+        return messageUtil.deserialize(JsonParser.parseString(json).getAsJsonObject());
+    }
+    
+    @Benchmark
+    public byte[] serializeBinary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MessageCodecs.BINARY.encode(entry, out);
+        return out.toByteArray();
+    }
+    
+    @Benchmark
+    public HttpMessageEntry deserializeBinary() throws IOException, ClassNotFoundException {
+        return MessageCodecs.BINARY.decode(new ByteArrayInputStream(binary));
+    }
+}
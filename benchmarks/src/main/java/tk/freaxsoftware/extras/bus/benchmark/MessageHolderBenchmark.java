@@ -0,0 +1,75 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Measures cost of message holder creation and sync fire. Run with {@code -prof gc} to see allocation rate.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class MessageHolderBenchmark {
+    
+    private static final String TOPIC = "Bench.Holder.Topic";
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().sync().build();
+    
+    private final MessageOptions headerOptions = MessageOptions.Builder.newInstance().sync()
+            .header("Bench.Header.First", "1").header("Bench.Header.Second", "2").build();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init();
+        MessageBus.addSubscription(TOPIC, (holder) -> {});
+    }
+    
+    @Benchmark
+    public MessageHolder newHolder() {
+        return new MessageHolder<>(TOPIC, options, Boolean.TRUE);
+    }
+    
+    @Benchmark
+    public MessageHolder newHolderWithHeaders() {
+        return new MessageHolder<>(TOPIC, headerOptions, Boolean.TRUE);
+    }
+    
+    @Benchmark
+    public void fire() {
+        MessageBus.fire(TOPIC, Boolean.TRUE, options);
+    }
+}
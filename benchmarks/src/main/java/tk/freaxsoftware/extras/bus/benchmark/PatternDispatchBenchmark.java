@@ -0,0 +1,94 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Measures latency of sync fire with inline pattern delivery depending on amount of pattern subscriptions. 
+ * Distinct topics benchmark exceeds topic cache of pattern index, so matching is performed on each fire.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class PatternDispatchBenchmark {
+    
+    private static final String TOPIC_PREFIX = "Bench.Pattern.Topic";
+    
+    private static final int DISTINCT_TOPICS = 8192;
+    
+    @Param({"1", "10", "100", "1000"})
+    private int patternCount;
+    
+    private String matchedTopic;
+    
+    private String unmatchedTopic;
+    
+    private final String[] distinctTopics = new String[DISTINCT_TOPICS];
+    
+    private int distinctIndex;
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().sync().build();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init("bus_pattern_inline.json");
+        for (int index = 0; index < patternCount; index++) {
+            MessageBus.addSubscription(TOPIC_PREFIX + index + "\\..*", (holder) -> {});
+        }
+        matchedTopic = TOPIC_PREFIX + (patternCount - 1) + ".Event";
+        unmatchedTopic = "Bench.Unmatched.Event";
+        for (int index = 0; index < DISTINCT_TOPICS; index++) {
+            distinctTopics[index] = TOPIC_PREFIX + (index % patternCount) + ".Event" + index;
+        }
+    }
+    
+    @Benchmark
+    public void fireMatched() {
+        MessageBus.fire(matchedTopic, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public void fireUnmatched() {
+        MessageBus.fire(unmatchedTopic, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public void fireDistinctTopics() {
+        distinctIndex = (distinctIndex + 1) % DISTINCT_TOPICS;
+        MessageBus.fire(distinctTopics[distinctIndex], Boolean.TRUE, options);
+    }
+}
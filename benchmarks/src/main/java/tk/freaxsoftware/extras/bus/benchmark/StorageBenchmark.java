@@ -0,0 +1,74 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Measures store delivery with in-memory storage and throughput of grouping receiver.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class StorageBenchmark {
+    
+    private static final String STORE_TOPIC = "Bench.Store";
+    
+    /**
+     * Grouping topics from {@code bus_storage.json}.
+     */
+    private static final String GROUP_SINGLE_TOPIC = "Bench.Group.Single";
+    
+    private static final String GROUP_LIST_TOPIC = "Bench.Group.List";
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().deliveryNotification().sync().build();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init("bus_storage.json");
+        MessageBus.addSubscription(STORE_TOPIC, (holder) -> {});
+        MessageBus.addSubscription(GROUP_LIST_TOPIC, (holder) -> {});
+    }
+    
+    @Benchmark
+    public void fireStore() {
+        MessageBus.fire(STORE_TOPIC, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public void fireGrouping() {
+        MessageBus.fire(GROUP_SINGLE_TOPIC, Boolean.TRUE, options);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+
+/**
+ * Measures latency of sync fire depending on amount of subscribed topics.
+ * @author Stanislav Nepochatov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class TopicRoutingBenchmark {
+    
+    private static final String TOPIC_PREFIX = "Bench.Routing.Topic";
+    
+    @Param({"10", "100", "1000", "5000"})
+    private int topicCount;
+    
+    private String firstTopic;
+    
+    private String lastTopic;
+    
+    private final MessageOptions options = MessageOptions.Builder.newInstance().sync().build();
+    
+    @Setup
+    public void setUp() {
+        MessageBus.init();
+        for (int index = 0; index < topicCount; index++) {
+            MessageBus.addSubscription(TOPIC_PREFIX + index, (holder) -> {});
+        }
+        firstTopic = TOPIC_PREFIX + 0;
+        lastTopic = TOPIC_PREFIX + (topicCount - 1);
+    }
+    
+    @Benchmark
+    public void fireFirstTopic() {
+        MessageBus.fire(firstTopic, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public void fireLastTopic() {
+        MessageBus.fire(lastTopic, Boolean.TRUE, options);
+    }
+    
+    @Benchmark
+    public boolean isSubscribed() {
+        return MessageBus.isSubscribed(lastTopic);
+    }
+}
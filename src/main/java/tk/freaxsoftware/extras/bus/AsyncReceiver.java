@@ -0,0 +1,37 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Receiver which can process message without blocking of caller thread, 
+ * like HTTP bridge senders. Used by {@link MessageBus#fireCallAsync(java.lang.String, java.lang.Object, tk.freaxsoftware.extras.bus.MessageOptions, java.lang.Class)}.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public interface AsyncReceiver<T> extends Receiver<T> {
+    
+    /**
+     * Receive message and complete returned future when processing is done and results are placed.
+     * @param message message holder instance;
+     * @return future of message processing, cancellation of it should abort processing if possible;
+     */
+    CompletableFuture<Void> receiveAsync(MessageHolder<T> message);
+}
@@ -0,0 +1,44 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.List;
+
+/**
+ * Receiver which is able to process batch of messages at once. 
+ * Gets whole batch fired by {@code MessageBus.fireBatch}, single messages are delivered as batch of one.
+ * @author Stanislav Nepochatov
+ * @param <T> type of message content;
+ * @since 6.1
+ */
+public interface BatchReceiver<T> extends Receiver<T> {
+    
+    /**
+     * Receive batch of messages with the same topic and options.
+     * @param messages list of message holders;
+     * @throws Exception receiver may throws any exception;
+     */
+    void receiveBatch(List<MessageHolder<T>> messages) throws Exception;
+
+    @Override
+    default void receive(MessageHolder<T> message) throws Exception {
+        receiveBatch(List.of(message));
+    }
+    
+}
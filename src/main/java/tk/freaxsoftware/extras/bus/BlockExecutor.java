@@ -16,25 +16,66 @@
  * You should have received a copy of the GNU Lesser General Public
  * License along with this library.
  */
-
 package tk.freaxsoftware.extras.bus;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.config.pool.OverflowPolicy;
+import tk.freaxsoftware.extras.bus.exceptions.MessageRejectedException;
 import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
 
 /**
- * Block executor allows to execute block of codes in sync and async manner.
+ * Block executor allows to execute block of codes in sync and async manner. 
+ * Amount of async tasks can be bounded, in that case overflow policy is applied to tasks beyond the limit.
  * @author Stanislav Nepochatov
  */
 public class BlockExecutor {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockExecutor.class);
+    
     /**
      * Thread pool executor.
      */
     private final ExecutorService threadService;
+    
+    /**
+     * Free places in queue. Null for unbounded queue.
+     */
+    private final Semaphore permits;
+    
+    /**
+     * Policy of queue overflow.
+     */
+    private final OverflowPolicy overflowPolicy;
+    
+    /**
+     * Counter of dropped tasks.
+     */
+    private final LongAdder dropped = new LongAdder();
+    
+    /**
+     * Counter of async tasks queued or running.
+     */
+    private final LongAdder pending = new LongAdder();
 
     public BlockExecutor(ExecutorService threadService) {
+        this(threadService, null, null);
+    }
+
+    /**
+     * Bounded queue constructor.
+     * @param threadService thread pool executor;
+     * @param queueCapacity max amount of async tasks queued or running, unbounded if null;
+     * @param overflowPolicy policy of queue overflow, {@code BLOCK} if null;
+     */
+    public BlockExecutor(ExecutorService threadService, Integer queueCapacity, OverflowPolicy overflowPolicy) {
         this.threadService = threadService;
+        this.permits = queueCapacity != null && queueCapacity > 0 ? new Semaphore(queueCapacity) : null;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
     }
     
     /**
@@ -50,12 +91,26 @@ public class BlockExecutor {
         }
     } 
     
+    /**
+     * Try to execute block of code without blocking current thread on full queue.
+     * @param block block of code;
+     * @param async async flag;
+     * @return true if block was executed or accepted by queue / false if queue is full;
+     */
+    public boolean tryExecute(MessageExecutor block, Boolean async) {
+        if (async) {
+            return tryExecuteAsync(() -> block.process());
+        }
+        executeSync(block);
+        return true;
+    }
+    
     /**
      * Execute in sync mode.
      * @param block code block;
      */
     public void executeSync(MessageExecutor block) {
-        block.exec();
+        block.process();
     }
     
     /**
@@ -63,11 +118,120 @@ public class BlockExecutor {
      * @param block code block;
      */
     public void executeAsync(MessageExecutor block) {
-        threadService.submit(() -> block.exec());
+        executeAsync(() -> block.process());
     }
     
+    /**
+     * Execute runnable in async mode. Message context of the worker thread is cleared 
+     * after execution, so it will not leak into next task.
+     * @param runnable code block;
+     */
     public void executeAsync(Runnable runnable) {
-        threadService.submit(runnable);
+        if (permits == null) {
+            submit(runnable);
+            return;
+        }
+        if (permits.tryAcquire()) {
+            submit(runnable);
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    permits.acquire();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new MessageRejectedException("Interrupted while waiting for free place in executor queue");
+                }
+                submit(runnable);
+                break;
+            case CALLER_RUNS:
+                runnable.run();
+                break;
+            case DROP:
+                dropped.increment();
+                LOGGER.debug("Executor queue is full, task dropped");
+                break;
+            case REJECT:
+                throw new MessageRejectedException("Executor queue is full");
+        }
+    }
+    
+    /**
+     * Execute task of the call in async mode. Caller waits for result of the call, so {@code DROP} 
+     * overflow policy rejects task instead of dropping it.
+     * @param runnable code block;
+     * @throws MessageRejectedException if task wasn't accepted;
+     * @since 6.1
+     */
+    public void executeCallAsync(Runnable runnable) {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!tryExecuteAsync(runnable)) {
+                throw new MessageRejectedException("Executor queue is full");
+            }
+        } else {
+            executeAsync(runnable);
+        }
+    }
+    
+    /**
+     * Try to execute runnable in async mode without applying overflow policy.
+     * @param runnable code block;
+     * @return true if runnable was accepted / false if queue is full;
+     */
+    public boolean tryExecuteAsync(Runnable runnable) {
+        if (permits != null && !permits.tryAcquire()) {
+            return false;
+        }
+        try {
+            submit(runnable);
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Get amount of tasks dropped by {@code DROP} overflow policy.
+     * @return dropped tasks count;
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * Get amount of async tasks queued or running.
+     * @return pending tasks count;
+     */
+    public long getPendingCount() {
+        return pending.sum();
+    }
+    
+    /**
+     * Submits task to thread pool, permit should be acquired before if queue is bounded.
+     * @param runnable code block;
+     */
+    private void submit(Runnable runnable) {
+        pending.increment();
+        try {
+            threadService.submit(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    pending.decrement();
+                    MessageContextHolder.clearContext();
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pending.decrement();
+            if (permits != null) {
+                permits.release();
+            }
+            throw ex;
+        }
     }
     
 }
@@ -0,0 +1,150 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Headers map which shares source map until first modification. 
+ * Used to avoid copying of message options headers for each message.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+class CopyOnWriteHeaders extends AbstractMap<String, String> {
+    
+    /**
+     * Shared source map or own copy after modification.
+     */
+    private Map<String, String> headers;
+    
+    /**
+     * Copy flag.
+     */
+    private boolean copied;
+
+    CopyOnWriteHeaders(Map<String, String> source) {
+        this.headers = source;
+    }
+    
+    private Map<String, String> writable() {
+        if (!copied) {
+            headers = new HashMap<>(headers);
+            copied = true;
+        }
+        return headers;
+    }
+
+    @Override
+    public String get(Object key) {
+        return headers.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return headers.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        return headers.containsKey(key) ? writable().remove(key) : null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends String> map) {
+        writable().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        headers = new HashMap<>();
+        copied = true;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return copied ? headers.entrySet() : new SharedEntrySet();
+    }
+    
+    /**
+     * Entry set view of shared source, modifications go to own copy.
+     */
+    private class SharedEntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            Iterator<Entry<String, String>> iterator = headers.entrySet().iterator();
+            return new Iterator<Entry<String, String>>() {
+                
+                private Entry<String, String> last;
+                
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    Entry<String, String> entry = iterator.next();
+                    last = new SimpleEntry<String, String>(entry) {
+                        @Override
+                        public String setValue(String value) {
+                            writable().put(getKey(), value);
+                            return super.setValue(value);
+                        }
+                    };
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    writable().remove(last.getKey());
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return headers.size();
+        }
+    }
+}
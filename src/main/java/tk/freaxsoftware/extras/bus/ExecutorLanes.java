@@ -0,0 +1,178 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.config.pool.LaneConfig;
+import tk.freaxsoftware.extras.bus.config.pool.OverflowPolicy;
+import tk.freaxsoftware.extras.bus.config.pool.ThreadPoolConfig;
+
+/**
+ * Dedicated executor lanes for topics. Ordered lane processes messages by single thread 
+ * partitions, so messages with the same partition key are processed in FIFO order.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ExecutorLanes {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorLanes.class);
+    
+    /**
+     * Max amount of topics to cache resolved lane.
+     */
+    private static final int CACHE_SIZE = 4096;
+    
+    /**
+     * Default executor for topics without lane.
+     */
+    private final BlockExecutor defaultExecutor;
+    
+    /**
+     * Configured lanes.
+     */
+    private final List<Lane> lanes = new ArrayList<>();
+    
+    /**
+     * Resolved lanes by topic.
+     */
+    private final Map<String, Optional<Lane>> topicLanes = new ConcurrentHashMap<>();
+
+    public ExecutorLanes(BlockExecutor defaultExecutor, List<LaneConfig> configs) {
+        this.defaultExecutor = defaultExecutor;
+        if (configs != null) {
+            for (LaneConfig config: configs) {
+                Lane lane = buildLane(config);
+                if (lane != null) {
+                    lanes.add(lane);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get executor for message.
+     * @param holder message holder;
+     * @return lane executor or default executor if topic has no lane;
+     */
+    public BlockExecutor getExecutor(MessageHolder holder) {
+        if (lanes.isEmpty()) {
+            return defaultExecutor;
+        }
+        Optional<Lane> lane = topicLanes.get(holder.getTopic());
+        if (lane == null) {
+            lane = lanes.stream().filter(ln -> ln.topicPattern.matcher(holder.getTopic()).matches()).findFirst();
+            if (topicLanes.size() < CACHE_SIZE) {
+                topicLanes.put(holder.getTopic(), lane);
+            }
+        }
+        return lane.isPresent() ? lane.get().select(holder) : defaultExecutor;
+    }
+    
+    public BlockExecutor getDefaultExecutor() {
+        return defaultExecutor;
+    }
+    
+    /**
+     * Get all executors by name: default executor, lane executors by topic pattern 
+     * and partition executors with partition index.
+     * @return executors by name;
+     */
+    public Map<String, BlockExecutor> getExecutors() {
+        Map<String, BlockExecutor> executors = new LinkedHashMap<>();
+        executors.put("default", defaultExecutor);
+        for (Lane lane: lanes) {
+            if (lane.executors.length == 1) {
+                executors.put(lane.topicPattern.pattern(), lane.executors[0]);
+            } else {
+                for (int index = 0; index < lane.executors.length; index++) {
+                    executors.put(lane.topicPattern.pattern() + "#" + index, lane.executors[index]);
+                }
+            }
+        }
+        return executors;
+    }
+    
+    private Lane buildLane(LaneConfig config) {
+        if (config.getTopicPattern() == null) {
+            LOGGER.error("Executor lane without topic pattern skipped.");
+            return null;
+        }
+        ThreadPoolConfig poolConfig = config.getThreadPoolConfig();
+        Integer queueCapacity = poolConfig != null ? poolConfig.getQueueCapacity() : null;
+        BlockExecutor[] executors;
+        if (config.getOrdered() != null && config.getOrdered()) {
+            int partitions = 1;
+            if (config.getPartitionHeader() != null) {
+                partitions = config.getPartitions() != null && config.getPartitions() > 0 
+                        ? config.getPartitions() : Runtime.getRuntime().availableProcessors();
+            }
+            OverflowPolicy overflowPolicy = poolConfig != null ? poolConfig.getOverflowPolicy() : null;
+            if (overflowPolicy == OverflowPolicy.CALLER_RUNS || overflowPolicy == OverflowPolicy.DROP) {
+                LOGGER.warn("Overflow policy {} breaks order of lane {}, BLOCK is used instead.", overflowPolicy, config.getTopicPattern());
+                overflowPolicy = OverflowPolicy.BLOCK;
+            }
+            executors = new BlockExecutor[partitions];
+            for (int index = 0; index < partitions; index++) {
+                executors[index] = new BlockExecutor(Executors.newSingleThreadExecutor(), queueCapacity, overflowPolicy);
+            }
+        } else if (poolConfig != null) {
+            executors = new BlockExecutor[] {new BlockExecutor(poolConfig.buildThreadPool(), queueCapacity, poolConfig.getOverflowPolicy())};
+        } else {
+            LOGGER.error("Unordered executor lane for {} has no thread pool config, skipped.", config.getTopicPattern());
+            return null;
+        }
+        LOGGER.info("Executor lane for {} ordered {} partitions {}", config.getTopicPattern(), config.getOrdered(), executors.length);
+        return new Lane(Pattern.compile(config.getTopicPattern()), config.getPartitionHeader(), executors);
+    }
+    
+    /**
+     * Executor lane.
+     */
+    private static class Lane {
+        
+        private final Pattern topicPattern;
+        
+        private final String partitionHeader;
+        
+        private final BlockExecutor[] executors;
+
+        private Lane(Pattern topicPattern, String partitionHeader, BlockExecutor[] executors) {
+            this.topicPattern = topicPattern;
+            this.partitionHeader = partitionHeader;
+            this.executors = executors;
+        }
+        
+        private BlockExecutor select(MessageHolder holder) {
+            if (executors.length == 1 || partitionHeader == null) {
+                return executors[0];
+            }
+            Object key = holder.getHeaders().get(partitionHeader);
+            return key != null ? executors[Math.floorMod(key.hashCode(), executors.length)] : executors[0];
+        }
+    }
+}
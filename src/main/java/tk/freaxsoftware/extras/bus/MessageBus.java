@@ -19,19 +19,30 @@
 
 package tk.freaxsoftware.extras.bus;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import static tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC;
+import tk.freaxsoftware.extras.bus.balancer.ReceiverEntry;
+import tk.freaxsoftware.extras.bus.config.PatternDeliveryMode;
 import tk.freaxsoftware.extras.bus.exceptions.ExceptionServices;
+import tk.freaxsoftware.extras.bus.exceptions.MessageRejectedException;
 import tk.freaxsoftware.extras.bus.exceptions.NoSubscriptionMessageException;
 import tk.freaxsoftware.extras.bus.exceptions.ReceiverRegistrationException;
+import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
 import tk.freaxsoftware.extras.bus.executor.MessageExecutorFactory;
+import tk.freaxsoftware.extras.bus.metrics.MessageMetrics;
+import tk.freaxsoftware.extras.bus.metrics.MetricsSnapshot;
 
 /**
  * Main message bus entry class.
@@ -42,24 +53,24 @@ public final class MessageBus {
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageBus.class);
     
     /**
-     * Map of all subscription for messages.
+     * Map of all subscription for messages indexed by topic.
      */
-    private static final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private static final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
     
     /**
-     * List of pattern match subscriptions for messages.
+     * Index of pattern match subscriptions for messages.
      */
-    private static final List<PatternSubscription> patternSubscriptions = new CopyOnWriteArrayList<>();
+    private static final PatternSubscriptionIndex patternSubscriptions = new PatternSubscriptionIndex();
     
     /**
-     * Message bus init util.
+     * Pattern of plain topic, any other topic will be handled as pattern subscription.
      */
-    private static MessageBusInit init = new MessageBusInit();
+    private static final Pattern PLAIN_TOPIC = Pattern.compile("^[a-zA-Z0-9.]+$");
     
     /**
-     * Set of topic names to filter out from logging.
+     * Message bus init util.
      */
-    private static final Set<String> filterLogTopics = Set.of(L_HTTP_HEARTBEAT_TOPIC);
+    private static MessageBusInit init = new MessageBusInit();
     
     /**
      * Subscribe receiver for message with following topic.
@@ -71,26 +82,16 @@ public final class MessageBus {
         if (topic == null || receiver == null) {
             throw new ReceiverRegistrationException("Can't processed registration with null references!");
         }
-        boolean isPattern = !topic.matches("^[a-zA-Z0-9.]+$");
+        boolean isPattern = !PLAIN_TOPIC.matcher(topic).matches();
         LOGGER.info("Add new subscription for {} is pattern {}", topic, isPattern);
         if (isPattern) {
-            PatternSubscription patternSubscription = getPatternSubscription(topic);
-            if (patternSubscription == null) {
-                patternSubscription = new PatternSubscription(topic);
-                patternSubscription.addReceiver(receiver);
-                patternSubscriptions.add(patternSubscription);
-            } else {
-                patternSubscription.addReceiver(receiver);
-            }
+            patternSubscriptions.addReceiver(topic, receiver);
         } else {
-            Subscription subscription = getSubscription(topic);
-            if (subscription == null) {
-                subscription = new Subscription(topic);
-                subscription.addReceiver(receiver);
-                subscriptions.add(subscription);
-            } else {
-                subscription.addReceiver(receiver);
-            }
+            subscriptions.compute(topic, (key, subscription) -> {
+                Subscription result = subscription != null ? subscription : new Subscription(key, init.getBalancer(key));
+                result.addReceiver(receiver);
+                return result;
+            });
         }
         MessageBus.fire(GlobalCons.G_SUBSCRIBE_TOPIC, receiver, 
                 MessageOptions.Builder.newInstance().async().broadcast()
@@ -124,24 +125,15 @@ public final class MessageBus {
      */
     public static void removeSubscription(final String topic, final Receiver receiver) {
         init();
-        boolean isPattern = !topic.matches("^[a-zA-Z0-9.]+$");
+        boolean isPattern = !PLAIN_TOPIC.matcher(topic).matches();
         LOGGER.info("Removing subscription for {} is patter {}", topic, isPattern);
         if (isPattern) {
-            PatternSubscription patternSubscription = getPatternSubscription(topic);
-            if (patternSubscription != null) {
-                patternSubscription.getReceivers().remove(receiver);
-                if (patternSubscription.getReceivers().isEmpty()) {
-                    subscriptions.remove(patternSubscription);
-                }
-            }
+            patternSubscriptions.removeReceiver(topic, receiver);
         } else {
-            Subscription subscription = getSubscription(topic);
-            if (subscription != null) {
-                subscription.getReceivers().remove(receiver);
-                if (subscription.getReceivers().isEmpty()) {
-                    subscriptions.remove(subscription);
-                }
-            }
+            subscriptions.computeIfPresent(topic, (key, subscription) -> {
+                subscription.removeReceiver(receiver);
+                return subscription.getReceivers().isEmpty() ? null : subscription;
+            });
         }
         MessageBus.fire(GlobalCons.G_UNSUBSCRIBE_TOPIC, receiver, 
                 MessageOptions.Builder.newInstance().async().broadcast()
@@ -198,10 +190,9 @@ public final class MessageBus {
      * @param options options for message processing;
      */
     public static <T> void fire(final String topic, final T content, final MessageOptions options) {
+        init();
         MessageHolder<T> holder = new MessageHolder<>(topic, options, content);
-        if (!filterLogTopics.contains(topic)) {
-            LOGGER.info("Message with topic {} fired to bus", topic);
-        }
+        init.getLogPolicy().log(LOGGER, topic, "Message with topic {} fired to bus", topic);
         fire(holder);
     }
     
@@ -210,16 +201,101 @@ public final class MessageBus {
      * @param holder message holder to process; 
      */
     public static void fire(MessageHolder holder) {
+        dispatch(holder, false);
+    }
+    
+    /**
+     * Try to fire message to the bus without blocking on full executor queue.
+     * @param <T> type of content;
+     * @param topic destination of message;
+     * @param content message content;
+     * @param options options for message processing;
+     * @return true if message was accepted / false if executor queue is full;
+     */
+    public static <T> boolean tryFire(final String topic, final T content, final MessageOptions options) {
+        init();
+        MessageHolder<T> holder = new MessageHolder<>(topic, options, content);
+        init.getLogPolicy().log(LOGGER, topic, "Message with topic {} fired to bus", topic);
+        return tryFire(holder);
+    }
+    
+    /**
+     * Try to submit message holder to bus without blocking on full executor queue. 
+     * Sync messages are always accepted. Overflow policy isn't applied.
+     * @param holder message holder to process;
+     * @return true if message was accepted / false if executor queue is full;
+     */
+    public static boolean tryFire(MessageHolder holder) {
+        return dispatch(holder, true);
+    }
+    
+    /**
+     * Submits message holder to executor.
+     * @param holder message holder to process;
+     * @param tryOnly do not block or apply overflow policy if executor queue is full;
+     * @return true if message was accepted;
+     */
+    private static boolean dispatch(MessageHolder holder, boolean tryOnly) {
         init();
         if (holder.getOptions() == null) {
             throw new IllegalArgumentException("Message options can't be null!");
         }
+        init.getMetrics().fired(holder.getTopic(), 1);
         Subscription subscription = getSubscription(holder.getTopic());
+        Set<Receiver> patternReceivers = getPatternSubscriptionReceivers(holder.getTopic());
+        boolean inline = init.getPatternDeliveryMode() == PatternDeliveryMode.INLINE;
+        MessageExecutor executor = inline 
+                ? MessageExecutorFactory.newExecutor(holder, subscription, patternReceivers, init) 
+                : MessageExecutorFactory.newExecutor(holder, subscription, init);
+        BlockExecutor blockExecutor = init.getExecutor(holder);
         holder.setStatus(MessageStatus.PROCESSING);
-        init.getExecutor().execute(
-                MessageExecutorFactory.newExecutor(holder, subscription, init), holder.getOptions().isAsync()
-        );
-        processPatternSubscriptions(holder);
+        if (tryOnly) {
+            if (!blockExecutor.tryExecute(executor, holder.getOptions().isAsync())) {
+                holder.setStatus(MessageStatus.NEW);
+                return false;
+            }
+        } else {
+            blockExecutor.execute(executor, holder.getOptions().isAsync());
+        }
+        if (!inline) {
+            processPatternSubscriptions(holder, patternReceivers, tryOnly);
+        }
+        return true;
+    }
+    
+    /**
+     * Fire batch of messages with the same topic and options to the bus. Subscription is resolved once 
+     * and whole batch processed by single task, {@code BatchReceiver} gets whole batch at once.
+     * @param <T> type of content;
+     * @param topic destination of messages;
+     * @param contents contents of the messages;
+     * @param options options for messages processing;
+     */
+    public static <T> void fireBatch(final String topic, final Collection<T> contents, final MessageOptions options) {
+        init();
+        if (options == null) {
+            throw new IllegalArgumentException("Message options can't be null!");
+        }
+        if (contents == null || contents.isEmpty()) {
+            return;
+        }
+        List<MessageHolder> holders = new ArrayList<>(contents.size());
+        for (T content: contents) {
+            MessageHolder<T> holder = new MessageHolder<>(topic, options, content);
+            holder.setStatus(MessageStatus.PROCESSING);
+            holders.add(holder);
+        }
+        init.getLogPolicy().log(LOGGER, topic, "Batch of {} messages with topic {} fired to bus", holders.size(), topic);
+        init.getMetrics().fired(topic, holders.size());
+        Subscription subscription = getSubscription(topic);
+        Set<Receiver> patternReceivers = getPatternSubscriptionReceivers(topic);
+        boolean inline = init.getPatternDeliveryMode() == PatternDeliveryMode.INLINE;
+        BlockExecutor blockExecutor = init.getExecutor(holders.get(0));
+        blockExecutor.execute(MessageExecutorFactory.newBatchExecutor(holders, subscription, 
+                inline ? patternReceivers : Collections.emptySet(), init), options.isAsync());
+        if (!inline && !patternReceivers.isEmpty()) {
+            blockExecutor.executeAsync(() -> holders.forEach(holder -> MessageExecutor.deliverToPatternReceivers(holder, patternReceivers, init.getMetrics())));
+        }
     }
     
     /**
@@ -243,19 +319,30 @@ public final class MessageBus {
         }
         MessageHolder<T> holder = new MessageHolder<>(topic, options, content);
         MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
+        init.getMetrics().fired(topic, 1);
         Subscription subscription = getSubscription(holder.getTopic());
         init.getInterceptor().storeMessage(holder);
-        if (subscription != null) {
+        if (subscription != null && subscription.getEntries().length > 0) {
             Integer tryIndex = 0;
             while (tryIndex < holder.getOptions().getRedeliveryCounter()) {
-                Receiver rc = subscription.getRoundRobinIterator().next();
-                rc.receive(holder);
+                ReceiverEntry entry = subscription.select(holder);
+                long start = entry.onStart();
+                try {
+                    init.getMetrics().receive(entry.getReceiver(), holder);
+                } finally {
+                    entry.onComplete(start);
+                }
                 holder.setStatus(MessageStatus.FINISHED);
                 init.getInterceptor().storeProcessedMessage(holder);
                 ExceptionServices.callback(holder.getResponse());
                 break;
             }
-            processPatternSubscriptions(holder);
+            Set<Receiver> patternReceivers = getPatternSubscriptionReceivers(holder.getTopic());
+            if (init.getPatternDeliveryMode() == PatternDeliveryMode.INLINE) {
+                MessageExecutor.deliverToPatternReceivers(holder, patternReceivers, init.getMetrics());
+            } else {
+                processPatternSubscriptions(holder, patternReceivers, false);
+            }
             if (holder.getStatus() != MessageStatus.FINISHED) {
                 LOGGER.warn("Message {} on topic {} exhaust redelivery attempts, dropping.", 
                         holder.getId(), holder.getTopic());
@@ -269,20 +356,146 @@ public final class MessageBus {
     }
     
     /**
-     * Process message for pattern matching receivers.
-     * @param holder message holder;
+     * Fire async call. Receiver is invoked by bus executor, receivers which implement {@link AsyncReceiver} 
+     * (like HTTP bridge senders) are invoked directly and complete the future without blocking of any thread. 
+     * Cancellation of the future skips delivery if it's not started yet or aborts async receiver processing.
+     * @param <T> type of message content;
+     * @param <R> type of the response content;
+     * @param topic destination of message;
+     * @param content message content;
+     * @param options options for message processing;
+     * @param responseClass class to cast response;
+     * @return future of message response content, it completes exceptionally on message processing error;
+     * @since 6.1
      */
-    private static void processPatternSubscriptions(MessageHolder holder) {
-        final Set<Receiver> patterReceivers = getPatternSubscriptionReceivers(holder.getTopic());
-        init.getExecutor().executeAsync(() -> {
-            patterReceivers.forEach(rec -> {
-                try {
-                    rec.receive(holder);
-                } catch (Exception ex) {
-                    LOGGER.error("Receiver " + rec.getClass().getName() + " for topic " + holder.getTopic() + " throws exception", ex);
+    public static <T, R> CompletableFuture<R> fireCallAsync(final String topic, final T content, final MessageOptions options, final Class<R> responseClass) {
+        init();
+        if (options == null) {
+            throw new IllegalArgumentException("Message options can't be null!");
+        }
+        options.setAsync(true);
+        options.setBroadcast(false);
+        options.setDeliveryPolicy(MessageOptions.DeliveryPolicy.CALL);
+        MessageHolder<T> holder = new MessageHolder<>(topic, options, content);
+        init.getMetrics().fired(topic, 1);
+        Subscription subscription = getSubscription(holder.getTopic());
+        init.getInterceptor().storeMessage(holder);
+        ReceiverEntry entry = subscription != null ? subscription.select(holder) : null;
+        if (entry == null) {
+            holder.setStatus(MessageStatus.ERROR);
+            init.getInterceptor().storeMessage(holder);
+            return CompletableFuture.failedFuture(new NoSubscriptionMessageException(String.format("No subscribers for message %s", holder.getTopic())));
+        }
+        CompletableFuture<R> result = new CompletableFuture<>();
+        if (entry.getReceiver() instanceof AsyncReceiver asyncReceiver) {
+            long start = entry.onStart();
+            CompletableFuture<Void> delivery = init.getMetrics().receiveAsync(asyncReceiver, holder);
+            delivery.whenComplete((ignored, ex) -> {
+                entry.onComplete(start);
+                completeCall(holder, result, ex);
+            });
+            result.whenComplete((response, ex) -> {
+                if (ex != null) {
+                    delivery.cancel(true);
                 }
             });
-        });
+        } else {
+            try {
+                init.getExecutor(holder).executeCallAsync(() -> {
+                    if (result.isDone()) {
+                        return;
+                    }
+                    MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
+                    Exception error = null;
+                    long start = entry.onStart();
+                    try {
+                        init.getMetrics().receive(entry.getReceiver(), holder);
+                    } catch (Exception ex) {
+                        error = ex;
+                    } finally {
+                        entry.onComplete(start);
+                    }
+                    completeCall(holder, result, error);
+                });
+            } catch (MessageRejectedException | RejectedExecutionException ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Fire async call with timeout.
+     * @param <T> type of message content;
+     * @param <R> type of the response content;
+     * @param topic destination of message;
+     * @param content message content;
+     * @param options options for message processing;
+     * @param responseClass class to cast response;
+     * @param timeout amount of time to wait for response;
+     * @param unit unit of timeout;
+     * @return future of message response content, it completes with {@code TimeoutException} if timeout exceeded;
+     * @since 6.1
+     */
+    public static <T, R> CompletableFuture<R> fireCallAsync(final String topic, final T content, final MessageOptions options, 
+            final Class<R> responseClass, long timeout, TimeUnit unit) {
+        return fireCallAsync(topic, content, options, responseClass).orTimeout(timeout, unit);
+    }
+    
+    /**
+     * Completes async call: stores message state, delivers it to pattern receivers and completes future.
+     * @param <R> type of the response content;
+     * @param holder message holder;
+     * @param result future of response content;
+     * @param error error of processing or null;
+     */
+    private static <R> void completeCall(MessageHolder holder, CompletableFuture<R> result, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error == null) {
+            try {
+                ExceptionServices.callback(holder.getResponse());
+            } catch (Exception ex) {
+                error = ex;
+            }
+        }
+        if (error == null) {
+            holder.setStatus(MessageStatus.FINISHED);
+            init.getInterceptor().storeProcessedMessage(holder);
+        } else {
+            holder.setStatus(MessageStatus.ERROR);
+            init.getInterceptor().storeMessage(holder);
+        }
+        Set<Receiver> patternReceivers = getPatternSubscriptionReceivers(holder.getTopic());
+        if (init.getPatternDeliveryMode() == PatternDeliveryMode.INLINE) {
+            MessageExecutor.deliverToPatternReceivers(holder, patternReceivers, init.getMetrics());
+        } else {
+            processPatternSubscriptions(holder, patternReceivers, false);
+        }
+        if (error == null) {
+            result.complete((R) holder.getResponse().getContent());
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+    
+    /**
+     * Process message for pattern matching receivers in separate async task. Does nothing if there is no receivers.
+     * @param holder message holder;
+     * @param patternReceivers pattern matched receivers;
+     * @param tryOnly skip delivery instead of blocking if executor queue is full;
+     */
+    private static void processPatternSubscriptions(MessageHolder holder, Set<Receiver> patternReceivers, boolean tryOnly) {
+        if (patternReceivers.isEmpty()) {
+            return;
+        }
+        Runnable delivery = () -> MessageExecutor.deliverToPatternReceivers(holder, patternReceivers, init.getMetrics());
+        if (tryOnly) {
+            init.getExecutor(holder).tryExecuteAsync(delivery);
+        } else {
+            init.getExecutor(holder).executeAsync(delivery);
+        }
     }
     
     /**
@@ -291,12 +504,7 @@ public final class MessageBus {
      * @return subscription holder;
      */
     private static Subscription getSubscription(final String topic) {
-        for (Subscription subscription: subscriptions) {
-            if (Objects.equals(subscription.getTopic(), topic)) {
-                return subscription;
-            }
-        }
-        return null;
+        return topic != null ? subscriptions.get(topic) : null;
     }
     
     /**
@@ -305,12 +513,7 @@ public final class MessageBus {
      * @return subscription holder;
      */
     private static PatternSubscription getPatternSubscription(final String topicPattern) {
-        for (PatternSubscription subscription: patternSubscriptions) {
-            if (Objects.equals(subscription.getPattern(), topicPattern)) {
-                return subscription;
-            }
-        }
-        return null;
+        return topicPattern != null ? patternSubscriptions.getSubscription(topicPattern) : null;
     }
     
     /**
@@ -319,10 +522,27 @@ public final class MessageBus {
      * @return subscription holder;
      */
     private static Set<Receiver> getPatternSubscriptionReceivers(final String topic) {
-        return patternSubscriptions.stream()
-                .filter(sub -> sub.isMatched(topic))
-                .flatMap(sub -> sub.getReceivers().stream())
-                .collect(Collectors.toSet());
+        return patternSubscriptions.getReceivers(topic);
+    }
+    
+    /**
+     * Get snapshot of message bus metrics: fired, delivered, failed and redelivered messages, 
+     * receive latency by topic and receiver, queue depth of executors.
+     * @return metrics snapshot;
+     * @since 6.1
+     */
+    public static MetricsSnapshot metrics() {
+        init();
+        return init.getMetricsSnapshot();
+    }
+    
+    /**
+     * Get registry of message bus metrics to record metrics of extensions like bridge transfers.
+     * @return metrics registry;
+     * @since 6.1
+     */
+    public static MessageMetrics getMetrics() {
+        return init.getMetrics();
     }
     
     /**
@@ -26,6 +26,9 @@ import java.io.Reader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.annotation.AnnotationUtil;
+import tk.freaxsoftware.extras.bus.balancer.Balancer;
+import tk.freaxsoftware.extras.bus.balancer.RoundRobinBalancer;
+import tk.freaxsoftware.extras.bus.bridge.http.BridgeHttpClient;
 import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
 import tk.freaxsoftware.extras.bus.bridge.http.MessageClientSender;
 import tk.freaxsoftware.extras.bus.bridge.http.MessageServer;
@@ -33,10 +36,14 @@ import tk.freaxsoftware.extras.bus.bridge.http.RemoteSubscriptionReceiver;
 import tk.freaxsoftware.extras.bus.bridge.http.cross.CrossConnectionInit;
 import tk.freaxsoftware.extras.bus.bridge.http.cross.CrossConnectionStorage;
 import tk.freaxsoftware.extras.bus.bridge.http.cross.CrossNode;
+import tk.freaxsoftware.extras.bus.config.BalancingConfig;
 import tk.freaxsoftware.extras.bus.config.MessageBusConfig;
+import tk.freaxsoftware.extras.bus.config.PatternDeliveryMode;
 import tk.freaxsoftware.extras.bus.config.PropertyConfigProcessor;
 import tk.freaxsoftware.extras.bus.config.pool.PoolType;
 import tk.freaxsoftware.extras.bus.config.pool.ThreadPoolConfig;
+import tk.freaxsoftware.extras.bus.metrics.MessageMetrics;
+import tk.freaxsoftware.extras.bus.metrics.MetricsSnapshot;
 import tk.freaxsoftware.extras.bus.storage.StorageInterceptor;
 import tk.freaxsoftware.extras.bus.storage.StorageInterceptorFactory;
 
@@ -53,11 +60,26 @@ public class MessageBusInit {
      */
     private BlockExecutor executor;
     
+    /**
+     * Dedicated executor lanes for topics.
+     */
+    private ExecutorLanes lanes;
+    
     /**
      * Message bus config instance.
      */
     private volatile MessageBusConfig config;
     
+    /**
+     * Metrics registry.
+     */
+    private final MessageMetrics metrics = new MessageMetrics();
+    
+    /**
+     * Policy of message dispatch logging.
+     */
+    private MessageLogPolicy logPolicy;
+    
     /**
      * Storage interceptor.
      */
@@ -94,8 +116,8 @@ public class MessageBusInit {
      * <li>Read default config;</li>
      * <li>Read standard config;</li>
      * <li>Choose config file;</li>
-     * <li>Creating block executor instance;</li>
-     * <li>Establish HTTP server node (if configured);</li>
+     * <li>Creating block executor instance and executor lanes;</li>
+     * <li>Configure shared pooled HTTP client and establish HTTP server node (if configured);</li>
      * <li>Establish HTTP client sender (if server and client both configured) or creating instance of {@code RemoteSubscriptionReceiver};</li>
      * <li>Init storage (if configured);</li>
      * </ol>
@@ -111,11 +133,15 @@ public class MessageBusInit {
         
         config = standardConfig == null ? defaultConfig : standardConfig;
         PropertyConfigProcessor.process(config);
-        executor = new BlockExecutor(config.getThreadPoolConfig().buildThreadPool());
+        executor = new BlockExecutor(config.getThreadPoolConfig().buildThreadPool(), 
+                config.getThreadPoolConfig().getQueueCapacity(), config.getThreadPoolConfig().getOverflowPolicy());
+        lanes = new ExecutorLanes(executor, config.getLanes());
+        logPolicy = new MessageLogPolicy(config.getLogging());
         
         interceptor = StorageInterceptorFactory.interceptor(config.getStorage());
         
         if (config.getBridgeServer() != null) {
+            BridgeHttpClient.configureShared(config.getBridgeServer().getConnection());
             server = new MessageServer();
             server.init(config.getBridgeServer(), interceptor);
             
@@ -183,6 +209,55 @@ public class MessageBusInit {
     public BlockExecutor getExecutor() {
         return executor;
     }
+    
+    /**
+     * Get executor for message, it may be dedicated lane executor for message topic.
+     * @param holder message holder;
+     * @return block executor;
+     */
+    public BlockExecutor getExecutor(MessageHolder holder) {
+        return lanes.getExecutor(holder);
+    }
+    
+    /**
+     * Get mode of pattern receivers delivery.
+     * @return configured mode or {@code POOLED} by default;
+     */
+    public PatternDeliveryMode getPatternDeliveryMode() {
+        return config.getPatternDelivery() != null ? config.getPatternDelivery() : PatternDeliveryMode.POOLED;
+    }
+
+    /**
+     * Get balancer of point-to-point delivery for topic.
+     * @param topic topic of subscription;
+     * @return balancer of first matched balancing config or round robin balancer by default;
+     */
+    public Balancer getBalancer(String topic) {
+        if (config.getBalancing() != null) {
+            for (BalancingConfig balancingConfig: config.getBalancing()) {
+                if (balancingConfig.isMatched(topic)) {
+                    return balancingConfig.buildBalancer();
+                }
+            }
+        }
+        return new RoundRobinBalancer();
+    }
+
+    public MessageMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Get snapshot of metrics including all executors.
+     * @return metrics snapshot;
+     */
+    public MetricsSnapshot getMetricsSnapshot() {
+        return metrics.snapshot(lanes.getExecutors());
+    }
+
+    public MessageLogPolicy getLogPolicy() {
+        return logPolicy;
+    }
 
     public StorageInterceptor getInterceptor() {
         return interceptor;
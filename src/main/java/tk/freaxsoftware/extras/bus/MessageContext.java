@@ -18,8 +18,6 @@
  */
 package tk.freaxsoftware.extras.bus;
 
-import java.util.UUID;
-
 /**
  * Message context.
  * @author Stanislav Nepochatov
@@ -33,7 +31,7 @@ public class MessageContext {
     private String trxId;
 
     public MessageContext() {
-        trxId = UUID.randomUUID().toString();
+        trxId = MessageIds.newId();
     }
 
     public MessageContext(String trxId) {
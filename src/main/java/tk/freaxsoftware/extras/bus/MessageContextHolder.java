@@ -28,10 +28,12 @@ public class MessageContextHolder {
     private final static ThreadLocal<MessageContext> context = new ThreadLocal<>();
     
     public static MessageContext getContext() {
-        if (context.get() == null) {
-            context.set(new MessageContext());
+        MessageContext current = context.get();
+        if (current == null) {
+            current = new MessageContext();
+            context.set(current);
         }
-        return context.get();
+        return current;
     }
     
     public static void setContext(MessageContext messageContext) {
@@ -39,9 +41,7 @@ public class MessageContextHolder {
     }
     
     public static void clearContext() {
-        if (context.get() != null) {
-            context.remove();
-        }
+        context.remove();
     }
     
 }
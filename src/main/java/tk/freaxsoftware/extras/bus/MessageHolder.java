@@ -18,11 +18,12 @@
  */
 package tk.freaxsoftware.extras.bus;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Message holder for important information related to message.
@@ -42,10 +43,15 @@ public class MessageHolder<T> {
     private String trxId;
     
     /**
-     * Date of message creation.
+     * Date of message creation. Created from {@code createdEpochNanos} on demand.
      */
     private ZonedDateTime created;
     
+    /**
+     * Time of message creation in nanoseconds since epoch.
+     */
+    private long createdEpochNanos;
+    
     /**
      * Date of the last message update.
      */
@@ -82,7 +88,7 @@ public class MessageHolder<T> {
     private T content;
     
     /**
-     * Response structure of the message.
+     * Response structure of the message. Created on demand.
      */
     private ResponseHolder response;
     
@@ -90,26 +96,31 @@ public class MessageHolder<T> {
      * Default constructor.
      */
     public MessageHolder() {
-        this.id = UUID.randomUUID().toString();
+        this(new HashMap<>());
+    }
+    
+    private MessageHolder(Map<String, String> headers) {
+        this.id = MessageIds.newId();
         this.trxId = MessageContextHolder.getContext().getTrxId();
-        this.headers = new HashMap<>();
-        this.created = ZonedDateTime.now();
+        this.headers = headers;
+        Instant now = Instant.now();
+        this.createdEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
         this.status = MessageStatus.NEW;
     }
 
     /**
-     * Detail constructor.
+     * Detail constructor. Headers of the options are shared with message until first modification, 
+     * so options headers shouldn't be modified after message firing.
      * @param topic destination of the message;
      * @param options options of the message;
      * @param content content of the message;
      */
     public MessageHolder(String topic, MessageOptions options, T content) {
-        this();
-        this.headers.putAll(options.getHeaders());
+        this(options.getHeaders() == null || options.getHeaders().isEmpty() 
+                ? new HashMap<>() : new CopyOnWriteHeaders(options.getHeaders()));
         this.topic = topic;
         this.options = options;
         this.content = content;
-        this.response = new ResponseHolder();
         if (!Objects.equals(options.getRedeliveryCounter(), this.redeliveryCounter)) {
             this.redeliveryCounter = options.getRedeliveryCounter();
         }
@@ -132,11 +143,20 @@ public class MessageHolder<T> {
     }
 
     public ZonedDateTime getCreated() {
+        if (created == null && createdEpochNanos != 0) {
+            created = ZonedDateTime.ofInstant(Instant.ofEpochSecond(0, createdEpochNanos), ZoneId.systemDefault());
+        }
         return created;
     }
 
     public void setCreated(ZonedDateTime created) {
         this.created = created;
+        this.createdEpochNanos = created != null 
+                ? created.toEpochSecond() * 1_000_000_000L + created.getNano() : 0;
+    }
+
+    public long getCreatedEpochNanos() {
+        return createdEpochNanos;
     }
 
     public ZonedDateTime getUpdated() {
@@ -196,6 +216,9 @@ public class MessageHolder<T> {
     }
 
     public ResponseHolder getResponse() {
+        if (response == null) {
+            response = new ResponseHolder();
+        }
         return response;
     }
 
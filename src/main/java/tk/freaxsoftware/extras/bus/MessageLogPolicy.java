@@ -0,0 +1,156 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import static tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC;
+import tk.freaxsoftware.extras.bus.config.LoggingConfig;
+
+/**
+ * Policy of message dispatch logging: filtered topics, level by topic and sampling. 
+ * Checks are done before any message formatting.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MessageLogPolicy {
+    
+    /**
+     * Max amount of topics with own sampling counter, other topics share one counter.
+     */
+    private static final int MAX_SAMPLED_TOPICS = 4096;
+    
+    /**
+     * Topics filtered out from logging.
+     */
+    private final Set<String> filterTopics;
+    
+    /**
+     * Default level of logs.
+     */
+    private final Level level;
+    
+    /**
+     * Levels of logs by topic.
+     */
+    private final Map<String, Level> topicLevels;
+    
+    /**
+     * Log one of N messages.
+     */
+    private final int sampleRate;
+    
+    /**
+     * Counters of messages by topic for sampling.
+     */
+    private final Map<String, AtomicLong> sampleCounters = new ConcurrentHashMap<>();
+    
+    /**
+     * Counter of messages with null topic or topics beyond the limit.
+     */
+    private final AtomicLong otherCounter = new AtomicLong();
+
+    /**
+     * Builds policy from config.
+     * @param config logging config, default policy will be created if null;
+     */
+    public MessageLogPolicy(LoggingConfig config) {
+        LoggingConfig logging = config != null ? config : new LoggingConfig();
+        this.filterTopics = logging.getFilterTopics() != null 
+                ? new HashSet<>(logging.getFilterTopics()) : new HashSet<>(List.of(L_HTTP_HEARTBEAT_TOPIC));
+        this.level = logging.getLevel() != null ? logging.getLevel() : Level.INFO;
+        this.topicLevels = logging.getTopicLevels() != null ? new HashMap<>(logging.getTopicLevels()) : Map.of();
+        this.sampleRate = logging.getSampleRate() != null && logging.getSampleRate() > 1 ? logging.getSampleRate() : 1;
+    }
+    
+    /**
+     * Logs message dispatch event according to policy.
+     * @param logger logger to use;
+     * @param topic topic of the message;
+     * @param format log message format;
+     * @param arg first argument;
+     */
+    public void log(Logger logger, String topic, String format, Object arg) {
+        Level topicLevel = levelFor(logger, topic);
+        if (topicLevel != null) {
+            logger.atLevel(topicLevel).log(format, arg);
+        }
+    }
+    
+    /**
+     * Logs message dispatch event according to policy.
+     * @param logger logger to use;
+     * @param topic topic of the message;
+     * @param format log message format;
+     * @param arg1 first argument;
+     * @param arg2 second argument;
+     */
+    public void log(Logger logger, String topic, String format, Object arg1, Object arg2) {
+        Level topicLevel = levelFor(logger, topic);
+        if (topicLevel != null) {
+            logger.atLevel(topicLevel).log(format, arg1, arg2);
+        }
+    }
+    
+    /**
+     * Get level to log message of the topic.
+     * @param logger logger to use;
+     * @param topic topic of the message;
+     * @return level or null if message shouldn't be logged;
+     */
+    private Level levelFor(Logger logger, String topic) {
+        if (filterTopics.contains(topic)) {
+            return null;
+        }
+        Level topicLevel = topicLevels.isEmpty() || topic == null ? level : topicLevels.getOrDefault(topic, level);
+        if (!logger.isEnabledForLevel(topicLevel)) {
+            return null;
+        }
+        if (sampleRate > 1 && sampleCounter(topic).getAndIncrement() % sampleRate != 0) {
+            return null;
+        }
+        return topicLevel;
+    }
+    
+    /**
+     * Get sampling counter of the topic.
+     * @param topic topic of the message, may be null;
+     * @return counter of topic or shared counter for null topic and topics beyond the limit;
+     */
+    private AtomicLong sampleCounter(String topic) {
+        if (topic == null) {
+            return otherCounter;
+        }
+        AtomicLong counter = sampleCounters.get(topic);
+        if (counter != null) {
+            return counter;
+        }
+        if (sampleCounters.size() >= MAX_SAMPLED_TOPICS) {
+            return otherCounter;
+        }
+        return sampleCounters.computeIfAbsent(topic, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+/**
+ * Receiver with own name for metrics, e.g. annotated method or remote node.
+ * @author Stanislav Nepochatov
+ * @param <T> type of message content;
+ * @since 6.1
+ */
+public interface NamedReceiver<T> extends Receiver<T> {
+    
+    /**
+     * Get name of receiver, receivers are reported by class name if they don't have own name.
+     * @return name of receiver;
+     */
+    String getName();
+}
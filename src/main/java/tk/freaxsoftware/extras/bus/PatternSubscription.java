@@ -20,6 +20,7 @@ package tk.freaxsoftware.extras.bus;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
 
 /**
  * Message listener for specified message topic pattern.
@@ -32,6 +33,11 @@ public class PatternSubscription {
      */
     private final String pattern;
     
+    /**
+     * Compiled topic pattern.
+     */
+    private final Pattern compiledPattern;
+    
     /**
      * Receivers list.
      */
@@ -39,6 +45,7 @@ public class PatternSubscription {
 
     public PatternSubscription(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = Pattern.compile(pattern);
         receivers = new CopyOnWriteArrayList<>();
     }
 
@@ -67,6 +74,6 @@ public class PatternSubscription {
     }
     
     public boolean isMatched(String topic) {
-        return topic.matches(pattern);
+        return compiledPattern.matcher(topic).matches();
     } 
 }
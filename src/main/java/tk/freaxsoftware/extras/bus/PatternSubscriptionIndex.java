@@ -0,0 +1,239 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index of pattern subscriptions. Patterns are placed in a character trie by their 
+ * literal prefix, so only patterns with prefix matching the topic are evaluated. 
+ * Resolved receivers are cached per topic until any pattern subscription changes.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class PatternSubscriptionIndex {
+    
+    /**
+     * Default max amount of topics in resolved receivers cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+    
+    /**
+     * Regex symbols which ends literal prefix of the pattern.
+     */
+    private static final String META_CHARS = "\\.[]{}()*+?^$|";
+    
+    /**
+     * Pattern subscriptions by pattern.
+     */
+    private final Map<String, PatternSubscription> subscriptions = new ConcurrentHashMap<>();
+    
+    /**
+     * Root of the literal prefix trie.
+     */
+    private final Node root = new Node();
+    
+    /**
+     * Cache of resolved receivers by topic.
+     */
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    
+    /**
+     * Version of subscriptions, increments on every change to invalidate cache.
+     */
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Max amount of topics in cache.
+     */
+    private final int cacheSize;
+
+    public PatternSubscriptionIndex() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public PatternSubscriptionIndex(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+    
+    /**
+     * Add receiver to pattern subscription, creates subscription if absent.
+     * @param pattern topic pattern;
+     * @param receiver receiver to add;
+     */
+    public synchronized void addReceiver(String pattern, Receiver receiver) {
+        PatternSubscription subscription = subscriptions.get(pattern);
+        if (subscription == null) {
+            subscription = new PatternSubscription(pattern);
+            subscriptions.put(pattern, subscription);
+            root.insert(literalPrefix(pattern), 0, subscription);
+        }
+        subscription.addReceiver(receiver);
+        invalidate();
+    }
+    
+    /**
+     * Remove receiver from pattern subscription, removes subscription if there is no receivers left.
+     * @param pattern topic pattern;
+     * @param receiver receiver to remove;
+     */
+    public synchronized void removeReceiver(String pattern, Receiver receiver) {
+        PatternSubscription subscription = subscriptions.get(pattern);
+        if (subscription != null) {
+            subscription.removeReceiver(receiver);
+            if (subscription.getReceivers().isEmpty()) {
+                subscriptions.remove(pattern);
+                root.remove(literalPrefix(pattern), 0, subscription);
+            }
+            invalidate();
+        }
+    }
+    
+    /**
+     * Get pattern subscription without pattern matching.
+     * @param pattern topic pattern;
+     * @return pattern subscription or null;
+     */
+    public PatternSubscription getSubscription(String pattern) {
+        return subscriptions.get(pattern);
+    }
+    
+    /**
+     * Get receivers of all pattern subscriptions which matches topic.
+     * @param topic topic of the message;
+     * @return unmodifiable set of receivers;
+     */
+    public Set<Receiver> getReceivers(String topic) {
+        if (subscriptions.isEmpty()) {
+            return Collections.emptySet();
+        }
+        long current = version.get();
+        CacheEntry entry = cache.get(topic);
+        if (entry != null && entry.version == current) {
+            return entry.receivers;
+        }
+        Set<Receiver> receivers = resolve(topic);
+        if (cache.size() >= cacheSize) {
+            Iterator<String> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+        cache.put(topic, new CacheEntry(current, receivers));
+        return receivers;
+    }
+    
+    private Set<Receiver> resolve(String topic) {
+        Set<Receiver> receivers = new HashSet<>();
+        Node node = root;
+        int index = 0;
+        while (node != null) {
+            for (PatternSubscription subscription: node.subscriptions) {
+                if (subscription.isMatched(topic)) {
+                    receivers.addAll(subscription.getReceivers());
+                }
+            }
+            node = index < topic.length() ? node.children.get(topic.charAt(index++)) : null;
+        }
+        return receivers.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(receivers);
+    }
+    
+    private void invalidate() {
+        version.incrementAndGet();
+        cache.clear();
+    }
+    
+    /**
+     * Get literal prefix of the regex which should be present in each matched topic.
+     * @param pattern regex pattern;
+     * @return literal prefix or empty string;
+     */
+    static String literalPrefix(String pattern) {
+        if (pattern.indexOf('|') >= 0) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        for (int index = 0; index < pattern.length(); index++) {
+            char symbol = pattern.charAt(index);
+            if (META_CHARS.indexOf(symbol) >= 0) {
+                if ((symbol == '*' || symbol == '?' || symbol == '{') && prefix.length() > 0) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            prefix.append(symbol);
+        }
+        return prefix.toString();
+    }
+    
+    /**
+     * Node of the literal prefix trie.
+     */
+    private static class Node {
+        
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        
+        private final List<PatternSubscription> subscriptions = new CopyOnWriteArrayList<>();
+        
+        private void insert(String prefix, int index, PatternSubscription subscription) {
+            if (index == prefix.length()) {
+                subscriptions.add(subscription);
+            } else {
+                children.computeIfAbsent(prefix.charAt(index), key -> new Node()).insert(prefix, index + 1, subscription);
+            }
+        }
+        
+        private void remove(String prefix, int index, PatternSubscription subscription) {
+            if (index == prefix.length()) {
+                subscriptions.remove(subscription);
+            } else {
+                Node child = children.get(prefix.charAt(index));
+                if (child != null) {
+                    child.remove(prefix, index + 1, subscription);
+                    if (child.subscriptions.isEmpty() && child.children.isEmpty()) {
+                        children.remove(prefix.charAt(index));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Cached receivers of the topic.
+     */
+    private static class CacheEntry {
+        
+        private final long version;
+        
+        private final Set<Receiver> receivers;
+
+        private CacheEntry(long version, Set<Receiver> receivers) {
+            this.version = version;
+            this.receivers = receivers;
+        }
+    }
+}
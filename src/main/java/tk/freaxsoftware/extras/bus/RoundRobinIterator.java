@@ -21,28 +21,40 @@ package tk.freaxsoftware.extras.bus;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
- * Round robin iterator for point-to-point message processing balancing.
+ * Round robin iterator for point-to-point message processing balancing. Thread safe.
  * @author Stanislav Nepochatov
  */
 public class RoundRobinIterator<T> implements Iterator<T> {
     
     /**
-     * List of the items.
+     * Supplier of the items list.
      */
-    private final List<T> list;
+    private final Supplier<List<T>> list;
     
     /**
      * Index of item.
      */
-    private int index = 0;
+    private final AtomicInteger index = new AtomicInteger();
 
     /**
      * Default constructor.
      * @param list collection of the items;
      */
     public RoundRobinIterator(List<T> list) {
+        this(() -> list);
+    }
+    
+    /**
+     * Constructor for list which may be replaced.
+     * @param list supplier of current list of the items;
+     * @since 6.1
+     */
+    public RoundRobinIterator(Supplier<List<T>> list) {
         this.list = list;
     }
 
@@ -53,9 +65,18 @@ public class RoundRobinIterator<T> implements Iterator<T> {
 
     @Override
     public T next() {
-        T res = list.get(index);
-        index = (index + 1) % list.size();
-        return res;
+        while (true) {
+            List<T> items = list.get();
+            int size = items.size();
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return items.get(Math.floorMod(index.getAndIncrement(), size));
+            } catch (IndexOutOfBoundsException ex) {
+                //List was shrinked concurrently, retry.
+            }
+        }
     }
     
 }
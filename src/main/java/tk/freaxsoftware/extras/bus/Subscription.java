@@ -18,25 +18,54 @@
  */
 package tk.freaxsoftware.extras.bus;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import tk.freaxsoftware.extras.bus.balancer.Balancer;
+import tk.freaxsoftware.extras.bus.balancer.DeferredDelivery;
+import tk.freaxsoftware.extras.bus.balancer.ReceiverEntry;
+import tk.freaxsoftware.extras.bus.balancer.RoundRobinBalancer;
 
 /**
- * Message listener holder for specified message topic.
+ * Message listener holder for specified message topic. Receivers are kept as immutable snapshot 
+ * replaced on each change, so delivery doesn't need any locking.
  * @author Stanislav Nepochatov
  */
 public class Subscription {
     
+    private static final ReceiverEntry[] NO_ENTRIES = new ReceiverEntry[0];
+    
     /**
      * Topic of message subscription.
      */
     private final String topic;
     
     /**
-     * Receivers list.
+     * Snapshot of receiver entries.
+     */
+    private volatile ReceiverEntry[] entries = NO_ENTRIES;
+    
+    /**
+     * Snapshot of receivers list.
+     */
+    private volatile List<Receiver> receivers = Collections.emptyList();
+    
+    /**
+     * Modifiable view of receivers.
+     */
+    private final List<Receiver> receiversView = new ReceiversView();
+    
+    /**
+     * Balancer of point-to-point delivery.
      */
-    private List<Receiver> receivers;
+    private volatile Balancer balancer;
     
     /**
      * Instance of the round robin iterator.
@@ -48,37 +77,126 @@ public class Subscription {
      * @param topic destination of subscription.
      */
     public Subscription(String topic) {
+        this(topic, null);
+    }
+    
+    /**
+     * Constructor with balancer.
+     * @param topic destination of subscription;
+     * @param balancer balancer of point-to-point delivery, round robin if null;
+     * @since 6.1
+     */
+    public Subscription(String topic, Balancer balancer) {
         this.topic = topic;
-        receivers = new CopyOnWriteArrayList<>();
+        this.balancer = balancer != null ? balancer : new RoundRobinBalancer();
     }
 
     public String getTopic() {
         return topic;
     }
 
+    /**
+     * Get receivers of subscription. Returned list is a live view, modifications of it 
+     * are applied to subscription, iterator works over snapshot and doesn't support removal.
+     * @return list of receivers;
+     */
     public List<Receiver> getReceivers() {
-        return receivers;
+        return receiversView;
     }
 
-    public void setReceivers(List<Receiver> receivers) {
-        this.receivers = receivers;
+    public synchronized void setReceivers(List<Receiver> receivers) {
+        List<ReceiverEntry> newEntries = new ArrayList<>(receivers.size());
+        for (Receiver receiver: receivers) {
+            newEntries.add(new ReceiverEntry(receiver));
+        }
+        update(newEntries);
     }
     
     /**
      * Add specified receiver to queue.
      * @param receiver receiver to add;
      */
-    public void addReceiver(Receiver receiver) {
-        this.receivers.add(receiver);
+    public synchronized void addReceiver(Receiver receiver) {
+        List<ReceiverEntry> newEntries = new ArrayList<>(entries.length + 1);
+        Collections.addAll(newEntries, entries);
+        newEntries.add(new ReceiverEntry(receiver));
+        update(newEntries);
+    }
+    
+    public synchronized void removeReceiver(Receiver receiver) {
+        List<ReceiverEntry> newEntries = new ArrayList<>(entries.length);
+        boolean removed = false;
+        for (ReceiverEntry entry: entries) {
+            if (!removed && entry.getReceiver().equals(receiver)) {
+                removed = true;
+            } else {
+                newEntries.add(entry);
+            }
+        }
+        update(newEntries);
+    }
+    
+    /**
+     * Get receiver entries.
+     * @return immutable snapshot of receiver entries, should not be modified;
+     * @since 6.1
+     */
+    public ReceiverEntry[] getEntries() {
+        return entries;
+    }
+
+    public Balancer getBalancer() {
+        return balancer;
+    }
+
+    public void setBalancer(Balancer balancer) {
+        this.balancer = balancer;
+    }
+    
+    /**
+     * Selects receiver for point-to-point delivery of message.
+     * @param holder message holder, may be null;
+     * @return receiver entry or null if there is no receivers;
+     * @since 6.1
+     */
+    public ReceiverEntry select(MessageHolder holder) {
+        ReceiverEntry[] snapshot = entries;
+        if (snapshot.length == 0) {
+            return null;
+        }
+        return snapshot.length == 1 ? snapshot[0] : balancer.select(snapshot, holder);
     }
     
-    public void removeReceiver(Receiver receiver) {
-        this.receivers.remove(receiver);
+    /**
+     * Delivers message to all receivers in case of broadcast or to single selected receiver 
+     * in case of point-to-point message. In-flight state and delivery time of receiver are tracked, 
+     * until completion of delivery deferred by {@link DeferredDelivery}.
+     * @param holder message holder;
+     * @param delivery delivery to receiver, should handle receiver exceptions;
+     * @since 6.1
+     */
+    public void deliver(MessageHolder holder, Consumer<Receiver> delivery) {
+        if (holder.getOptions().isBroadcast()) {
+            for (ReceiverEntry entry: entries) {
+                deliver(entry, delivery);
+            }
+        } else {
+            ReceiverEntry entry = select(holder);
+            if (entry != null) {
+                deliver(entry, delivery);
+            }
+        }
     }
 
-    public RoundRobinIterator<Receiver> getRoundRobinIterator() {
+    /**
+     * Get round robin iterator over receivers.
+     * @return round robin iterator;
+     * @deprecated use {@link #select(tk.freaxsoftware.extras.bus.MessageHolder)} which respects balancer;
+     */
+    @Deprecated
+    public synchronized RoundRobinIterator<Receiver> getRoundRobinIterator() {
         if (roundRobinIterator == null) {
-            roundRobinIterator = new RoundRobinIterator<>(receivers);
+            roundRobinIterator = new RoundRobinIterator<>(() -> receivers);
         }
         return roundRobinIterator;
     }
@@ -88,14 +206,123 @@ public class Subscription {
      * @param isBroadcast broadcast flag of the message.
      * @return list with multiple receivers in case of broadcast or 
      * list with single receiver in case of point-to-point message.
+     * @deprecated use {@link #deliver(tk.freaxsoftware.extras.bus.MessageHolder, java.util.function.Consumer)} 
+     * which doesn't allocate list for each message and tracks in-flight state;
      */
+    @Deprecated
     public List<Receiver> getReceiversByMode(Boolean isBroadcast) {
-        return isBroadcast ? receivers : wrapRoundRobin();
+        if (isBroadcast) {
+            return receivers;
+        }
+        ReceiverEntry entry = select(null);
+        return entry != null ? Collections.singletonList(entry.getReceiver()) : Collections.emptyList();
+    }
+    
+    private void deliver(ReceiverEntry entry, Consumer<Receiver> delivery) {
+        long start = entry.onStart();
+        CompletableFuture<?> enclosing = DeferredDelivery.enter();
+        try {
+            delivery.accept(entry.getReceiver());
+        } finally {
+            CompletableFuture<?> deferred = DeferredDelivery.exit(enclosing);
+            if (deferred != null) {
+                deferred.whenComplete((result, ex) -> entry.onComplete(start));
+            } else {
+                entry.onComplete(start);
+            }
+        }
+    }
+    
+    private synchronized <R> R modify(Function<List<ReceiverEntry>, R> change) {
+        List<ReceiverEntry> newEntries = new ArrayList<>(entries.length + 1);
+        Collections.addAll(newEntries, entries);
+        R result = change.apply(newEntries);
+        update(newEntries);
+        return result;
+    }
+    
+    private void update(List<ReceiverEntry> newEntries) {
+        ReceiverEntry[] newArray = newEntries.toArray(NO_ENTRIES);
+        List<Receiver> newReceivers = new ArrayList<>(newArray.length);
+        for (ReceiverEntry entry: newArray) {
+            newReceivers.add(entry.getReceiver());
+        }
+        receivers = Collections.unmodifiableList(newReceivers);
+        entries = newArray;
     }
     
-    private List<Receiver> wrapRoundRobin() {
-        List<Receiver> receiverList = new ArrayList(1);
-        receiverList.add(getRoundRobinIterator().next());
-        return receiverList;
+    /**
+     * List view of receivers which applies modifications as new snapshot.
+     */
+    private class ReceiversView extends AbstractList<Receiver> {
+
+        @Override
+        public Receiver get(int index) {
+            return receivers.get(index);
+        }
+
+        @Override
+        public int size() {
+            return receivers.size();
+        }
+
+        @Override
+        public Iterator<Receiver> iterator() {
+            return receivers.iterator();
+        }
+
+        @Override
+        public Receiver set(int index, Receiver receiver) {
+            return modify(list -> list.set(index, new ReceiverEntry(receiver)).getReceiver());
+        }
+
+        @Override
+        public void add(int index, Receiver receiver) {
+            modify(list -> {
+                list.add(index, new ReceiverEntry(receiver));
+                return null;
+            });
+        }
+
+        @Override
+        public Receiver remove(int index) {
+            return modify(list -> list.remove(index).getReceiver());
+        }
+
+        @Override
+        public boolean remove(Object receiver) {
+            return modify(list -> {
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i).getReceiver().equals(receiver)) {
+                        list.remove(i);
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Receiver> filter) {
+            return modify(list -> list.removeIf(entry -> filter.test(entry.getReceiver())));
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> items) {
+            return removeIf(items::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> items) {
+            return removeIf(receiver -> !items.contains(receiver));
+        }
+
+        @Override
+        public void clear() {
+            modify(list -> {
+                list.clear();
+                return null;
+            });
+        }
     }
 }
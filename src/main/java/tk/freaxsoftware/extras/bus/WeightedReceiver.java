@@ -0,0 +1,34 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus;
+
+/**
+ * Receiver with weight for weighted point-to-point balancing.
+ * @author Stanislav Nepochatov
+ * @param <T> type of message content;
+ * @since 6.1
+ */
+public interface WeightedReceiver<T> extends Receiver<T> {
+    
+    /**
+     * Get weight of receiver, receiver gets share of messages proportional to its weight.
+     * @return weight of receiver;
+     */
+    int getWeight();
+}
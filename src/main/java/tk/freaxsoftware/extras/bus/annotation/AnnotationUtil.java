@@ -19,12 +19,23 @@
 
 package tk.freaxsoftware.extras.bus.annotation;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,14 +43,33 @@ import tk.freaxsoftware.extras.bus.MessageBus;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 
 /**
- * Utility class to process annotation driven receivers.
+ * Utility class to process annotation driven receivers. Receiver registries generated by 
+ * {@link ReceiveProcessor} are preferred, reflection is used for classes without registry.
  * @author Stanislav Nepochatov
  */
 public class AnnotationUtil {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(AnnotationUtil.class);
     
-    private static final Map<Class, List<ReflectReceiver>> reflectionMap = new ConcurrentHashMap<>();
+    /**
+     * Type of receiver invoker method.
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, MessageHolder.class);
+    
+    /**
+     * Annotated receiver methods by class, resolved once per class.
+     */
+    private static final Map<Class, List<ReceiveMethod>> reflectionMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Subscribed receivers by class.
+     */
+    private static final Map<Class, List<ReflectReceiver>> receiverMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Generated receiver registries by receiver class, loaded on first use.
+     */
+    private static volatile Map<Class, ReceiverRegistry> registries;
     
     /**
      * Subscribes all annotated method of the specified class.
@@ -48,7 +78,19 @@ public class AnnotationUtil {
      * @throws java.lang.IllegalAccessException
      */
     public static void subscribeReceiverClass(Class receiverClass) throws InstantiationException, IllegalAccessException {
-        Object instance = receiverClass.newInstance();
+        ReceiverRegistry registry = getRegistry(receiverClass);
+        Object instance;
+        if (registry != null) {
+            instance = registry.newInstance();
+        } else {
+            try {
+                instance = receiverClass.getDeclaredConstructor().newInstance();
+            } catch (NoSuchMethodException | InvocationTargetException ex) {
+                InstantiationException instEx = new InstantiationException(String.format("Unable to create instance of %s", receiverClass.getName()));
+                instEx.initCause(ex);
+                throw instEx;
+            }
+        }
         subscribeReceiverInstance(instance);
     }
     
@@ -57,12 +99,13 @@ public class AnnotationUtil {
      * @param instance some class intance to subscribe;
      */
     public static void subscribeReceiverInstance(Object instance) {
-        List<ReflectReceiver> receivers = getReflectReceivers(instance);
+        ReceiverRegistry registry = getRegistry(instance.getClass());
+        List<ReflectReceiver> receivers = registry != null ? registry.getReceivers(instance) : getReflectReceivers(instance);
         if (!receivers.isEmpty()) {
             for (ReflectReceiver receiver: receivers) {
                 MessageBus.addSubscriptions(receiver.getSubscriptions(), receiver);
             }
-            reflectionMap.put(instance.getClass(), receivers);
+            receiverMap.put(instance.getClass(), receivers);
         } else {
             LOGGER.info(String.format("No subscriptions for class %s", instance.getClass().getCanonicalName()));
         }
@@ -73,12 +116,11 @@ public class AnnotationUtil {
      * @param receiverClass class to unsubscribe;
      */
     public static void unsubscribeReceiverClass(Class receiverClass) {
-        List<ReflectReceiver> receivers = reflectionMap.get(receiverClass);
+        List<ReflectReceiver> receivers = receiverMap.remove(receiverClass);
         if (receivers != null) {
             for (ReflectReceiver receiver: receivers) {
                 MessageBus.removeSubscriptions(receiver.getSubscriptions(), receiver);
             }
-            reflectionMap.remove(receiverClass);
         }
     }
     
@@ -90,30 +132,126 @@ public class AnnotationUtil {
         unsubscribeReceiverClass(instance.getClass());
     }
     
+    /**
+     * Get generated receiver registry for class.
+     * @param receiverClass receiver class;
+     * @return registry or null if there is no registry for class;
+     */
+    private static ReceiverRegistry getRegistry(Class receiverClass) {
+        Map<Class, ReceiverRegistry> loaded = registries;
+        if (loaded == null) {
+            loaded = loadRegistries();
+            registries = loaded;
+        }
+        return loaded.get(receiverClass);
+    }
+    
+    private static Map<Class, ReceiverRegistry> loadRegistries() {
+        Map<Class, ReceiverRegistry> loaded = new HashMap<>();
+        Iterator<ReceiverRegistry> iterator = ServiceLoader.load(ReceiverRegistry.class).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                ReceiverRegistry registry = iterator.next();
+                loaded.put(registry.getReceiverClass(), registry);
+            } catch (ServiceConfigurationError ex) {
+                LOGGER.warn("Unable to load receiver registry", ex);
+            }
+        }
+        LOGGER.debug("Loaded {} receiver registries", loaded.size());
+        return loaded;
+    }
+    
     /**
      * Get list of the reflect method receivers from instance.
      * @param instance 
      * @return list of the ready-to-use receivers;
      */
     private static List<ReflectReceiver> getReflectReceivers(Object instance) {
-        List<ReflectReceiver> receivers = new ArrayList<>();
-        Method[] methods = instance.getClass().getMethods();
+        List<ReceiveMethod> methods = reflectionMap.computeIfAbsent(instance.getClass(), AnnotationUtil::getReceiveMethods);
+        List<ReflectReceiver> receivers = new ArrayList<>(methods.size());
+        for (ReceiveMethod method: methods) {
+            receivers.add(new ReflectReceiver(method.getSubscriptions(), ReflectReceiver.getName(method.getMethod()), method.getInvoker(), instance));
+        }
+        return receivers;
+    }
+    
+    /**
+     * Resolves annotated receiver methods of the class and builds invokers for them.
+     * @param receiverClass class to scan;
+     * @return list of receiver methods;
+     */
+    private static List<ReceiveMethod> getReceiveMethods(Class receiverClass) {
+        List<ReceiveMethod> receiveMethods = new ArrayList<>();
+        Method[] methods = receiverClass.getMethods();
         for (Method method: methods) {
             Receive receiveAnnotation = method.getAnnotation(Receive.class);
             if (receiveAnnotation == null) {
                 continue;
             }
             if (!Modifier.isPublic(method.getModifiers())) {
-                LOGGER.info(String.format("Skipping method %s cause it's not public.", method.getName()));
+                LOGGER.info("Skipping method {} cause it's not public.", method.getName());
                 continue;
             }
             if (!(method.getAnnotatedParameterTypes().length == 1 && Objects.equals(method.getParameterTypes()[0].getTypeName(), MessageHolder.class.getTypeName()))) {
-                LOGGER.info(String.format("Skipping method %s cause incompatibility of the argument signature.", method.getName()));
+                LOGGER.info("Skipping method {} cause incompatibility of the argument signature.", method.getName());
                 continue;
             }
-            receivers.add(new ReflectReceiver(receiveAnnotation.value(), method, instance));
+            receiveMethods.add(new ReceiveMethod(receiveAnnotation.value(), method, buildInvoker(method)));
         }
-        return receivers;
+        return Collections.unmodifiableList(receiveMethods);
+    }
+    
+    /**
+     * Builds invoker for receiver method. Instance methods get invoker generated by {@code LambdaMetafactory} 
+     * which is as fast as direct call, method handle or reflection are used as fallback.
+     * @param method receiver method;
+     * @return invoker of the method;
+     * @since 6.1
+     */
+    static ReceiveInvoker buildInvoker(Method method) {
+        MethodHandle handle;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException | IllegalArgumentException ex) {
+            LOGGER.warn("Unable to get method handle for {}, reflection will be used.", method, ex);
+            return reflectionInvoker(method);
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(ReceiveInvoker.class), 
+                        INVOKER_TYPE, handle, MethodType.methodType(void.class, method.getDeclaringClass(), MessageHolder.class));
+                return (ReceiveInvoker) site.getTarget().invoke();
+            } catch (Throwable ex) {
+                LOGGER.debug("Unable to generate invoker for {}, method handle will be used.", method, ex);
+            }
+        } else {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        MethodHandle invokerHandle = handle.asType(INVOKER_TYPE);
+        return (target, message) -> {
+            try {
+                invokerHandle.invokeExact(target, message);
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+    
+    private static ReceiveInvoker reflectionInvoker(Method method) {
+        return (target, message) -> {
+            try {
+                method.invoke(target, message);
+            } catch (InvocationTargetException tex) {
+                throw (Exception) tex.getCause();
+            }
+        };
     }
     
 }
@@ -0,0 +1,38 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.annotation;
+
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Invoker of annotated receiver method. Generated once per method without reflection on each call.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface ReceiveInvoker {
+    
+    /**
+     * Invokes receiver method.
+     * @param target instance with receiver method;
+     * @param message message holder instance;
+     * @throws Exception exception of the receiver method;
+     */
+    void invoke(Object target, MessageHolder message) throws Exception;
+}
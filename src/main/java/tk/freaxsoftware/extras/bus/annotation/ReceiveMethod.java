@@ -0,0 +1,53 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.annotation;
+
+import java.lang.reflect.Method;
+
+/**
+ * Cached metadata of annotated receiver method.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+class ReceiveMethod {
+    
+    private final String[] subscriptions;
+    
+    private final Method method;
+    
+    private final ReceiveInvoker invoker;
+
+    ReceiveMethod(String[] subscriptions, Method method, ReceiveInvoker invoker) {
+        this.subscriptions = subscriptions;
+        this.method = method;
+        this.invoker = invoker;
+    }
+
+    String[] getSubscriptions() {
+        return subscriptions;
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    ReceiveInvoker getInvoker() {
+        return invoker;
+    }
+}
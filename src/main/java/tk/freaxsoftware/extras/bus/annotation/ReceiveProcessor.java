@@ -0,0 +1,249 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.annotation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Annotation processor which generates {@link ReceiverRegistry} for each class with {@link Receive} methods 
+ * and registers them as services. Registry is named after receiver class with {@code _ReceiverRegistry} suffix.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+@SupportedAnnotationTypes("tk.freaxsoftware.extras.bus.annotation.Receive")
+public class ReceiveProcessor extends AbstractProcessor {
+    
+    /**
+     * Suffix of generated registry class name.
+     */
+    public static final String REGISTRY_SUFFIX = "_ReceiverRegistry";
+    
+    /**
+     * Service file of receiver registries.
+     */
+    private static final String SERVICE_FILE = "META-INF/services/" + ReceiverRegistry.class.getName();
+    
+    /**
+     * Names of generated registries.
+     */
+    private final Set<String> registries = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!registries.isEmpty()) {
+                writeServiceFile();
+            }
+            return false;
+        }
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element: roundEnv.getElementsAnnotatedWith(Receive.class)) {
+            if (element.getKind() == ElementKind.METHOD) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type: types) {
+            generateRegistry(type);
+        }
+        return false;
+    }
+    
+    /**
+     * Generates registry source for receiver class.
+     * @param type receiver class;
+     */
+    private void generateRegistry(TypeElement type) {
+        if (!isAccessible(type)) {
+            warning(type, "Receiver registry skipped for %s: class should be top level or static nested and not private.", type);
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String registryName = registrySimpleName(type);
+        String registryFullName = packageName.isEmpty() ? registryName : packageName + "." + registryName;
+        if (registries.contains(registryFullName)) {
+            return;
+        }
+        List<String> receivers = new ArrayList<>();
+        for (ExecutableElement method: ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            Receive receive = method.getAnnotation(Receive.class);
+            if (receive == null) {
+                continue;
+            }
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                warning(method, "Skipping method %s cause it's not public.", method.getSimpleName());
+                continue;
+            }
+            if (method.getParameters().size() != 1 || !processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType())
+                    .toString().equals(MessageHolder.class.getCanonicalName())) {
+                warning(method, "Skipping method %s cause incompatibility of the argument signature.", method.getSimpleName());
+                continue;
+            }
+            StringBuilder topics = new StringBuilder();
+            for (String topic: receive.value()) {
+                topics.append(topics.length() > 0 ? ", " : "").append(processingEnv.getElementUtils().getConstantExpression(topic));
+            }
+            String call = method.getModifiers().contains(Modifier.STATIC) 
+                    ? typeName + "." + method.getSimpleName() + "(message)" 
+                    : "((" + typeName + ") target)." + method.getSimpleName() + "(message)";
+            String name = processingEnv.getElementUtils().getBinaryName((TypeElement) method.getEnclosingElement()) + "#" + method.getSimpleName();
+            receivers.add("new ReflectReceiver(new String[] {" + topics + "}, " + processingEnv.getElementUtils().getConstantExpression(name) 
+                    + ", (target, message) -> " + call + ", instance)");
+        }
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import java.util.List;\n")
+                .append("import tk.freaxsoftware.extras.bus.annotation.ReceiverRegistry;\n")
+                .append("import tk.freaxsoftware.extras.bus.annotation.ReflectReceiver;\n\n")
+                .append("/**\n * Receiver registry of {@link ").append(typeName).append("}.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ReceiveProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(registryName).append(" implements ReceiverRegistry<").append(typeName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> getReceiverClass() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(typeName).append(" newInstance() throws InstantiationException {\n");
+        if (isInstantiable(type)) {
+            source.append("        return new ").append(typeName).append("();\n");
+        } else {
+            source.append("        throw new InstantiationException(\"No accessible no-args constructor in ").append(typeName).append("\");\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public List<ReflectReceiver> getReceivers(").append(typeName).append(" instance) {\n")
+                .append("        return List.of(");
+        for (int index = 0; index < receivers.size(); index++) {
+            source.append(index > 0 ? ",\n                " : "\n                ").append(receivers.get(index));
+        }
+        source.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(registryFullName, type).openWriter()) {
+            writer.write(source.toString());
+            registries.add(registryFullName);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, 
+                    "Unable to write receiver registry " + registryFullName + ": " + ex.getMessage(), type);
+        }
+    }
+    
+    /**
+     * Writes service file with generated registries, registries from previous compilation are kept.
+     */
+    private void writeServiceFile() {
+        Set<String> services = new TreeSet<>(registries);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = existing.openReader(true); BufferedReader bufferedReader = new BufferedReader(reader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        services.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            //No previous service file.
+        }
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openWriter()) {
+            for (String service: services) {
+                writer.write(service);
+                writer.write("\n");
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write receiver registries service file: " + ex.getMessage());
+        }
+    }
+    
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC) 
+                    && typeElement.getKind() == ElementKind.CLASS) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+    
+    private boolean isInstantiable(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor: ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String registrySimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element element = type.getEnclosingElement();
+        while (element instanceof TypeElement typeElement) {
+            name.insert(0, typeElement.getSimpleName() + "_");
+            element = typeElement.getEnclosingElement();
+        }
+        return name.append(REGISTRY_SUFFIX).toString();
+    }
+    
+    private void warning(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, String.format(format, args), element);
+    }
+}
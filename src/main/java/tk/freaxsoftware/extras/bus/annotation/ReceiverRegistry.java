@@ -0,0 +1,52 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.annotation;
+
+import java.util.List;
+
+/**
+ * Registry of annotated receivers of single class. Implementations are generated at compile time 
+ * by {@link ReceiveProcessor} and loaded by {@link java.util.ServiceLoader}, so receivers are 
+ * created and subscribed without reflection.
+ * @author Stanislav Nepochatov
+ * @param <T> type of the receiver class;
+ * @since 6.1
+ */
+public interface ReceiverRegistry<T> {
+    
+    /**
+     * Get class of the receiver.
+     * @return receiver class;
+     */
+    Class<T> getReceiverClass();
+    
+    /**
+     * Creates new instance of receiver class by no-args constructor.
+     * @return new receiver instance;
+     * @throws InstantiationException if class can't be instantiated without arguments;
+     */
+    T newInstance() throws InstantiationException;
+    
+    /**
+     * Get receivers for all annotated methods of the instance.
+     * @param instance receiver instance;
+     * @return list of receivers;
+     */
+    List<ReflectReceiver> getReceivers(T instance);
+}
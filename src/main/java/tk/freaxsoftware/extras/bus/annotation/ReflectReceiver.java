@@ -19,39 +19,78 @@
 
 package tk.freaxsoftware.extras.bus.annotation;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import tk.freaxsoftware.extras.bus.MessageHolder;
-import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.NamedReceiver;
 
 /**
- * Receiver which stubs specified method by reflection.
+ * Receiver which stubs specified method by invoker generated on subscription.
  * @author Stanislav Nepochatov
  */
-public class ReflectReceiver implements Receiver {
+public class ReflectReceiver implements NamedReceiver {
     
     private final String[] subscriptions;
     
-    private final Method method;
+    private final ReceiveInvoker invoker;
     
     private final Object target;
+    
+    /**
+     * Name of receiver method for metrics.
+     */
+    private final String name;
 
     public ReflectReceiver(String[] subscriptions, Method method, Object target) {
+        this(subscriptions, getName(method), AnnotationUtil.buildInvoker(method), target);
+    }
+
+    /**
+     * Constructor with prepared invoker.
+     * @param subscriptions topics to subscribe;
+     * @param invoker invoker of receiver method;
+     * @param target instance with receiver method;
+     * @since 6.1
+     */
+    public ReflectReceiver(String[] subscriptions, ReceiveInvoker invoker, Object target) {
+        this(subscriptions, target != null ? target.getClass().getName() : ReflectReceiver.class.getName(), invoker, target);
+    }
+
+    /**
+     * Constructor with prepared invoker and name of receiver method.
+     * @param subscriptions topics to subscribe;
+     * @param name name of receiver method in form {@code class#method};
+     * @param invoker invoker of receiver method;
+     * @param target instance with receiver method;
+     * @since 6.1
+     */
+    public ReflectReceiver(String[] subscriptions, String name, ReceiveInvoker invoker, Object target) {
         this.subscriptions = subscriptions;
-        this.method = method;
+        this.name = name;
+        this.invoker = invoker;
         this.target = target;
     }
 
     @Override
     public void receive(MessageHolder message) throws Exception {
-        try {
-            method.invoke(target, message);
-        } catch (InvocationTargetException tex) {
-            throw (Exception) tex.getCause();
-        }
+        invoker.invoke(target, message);
     }
 
     public String[] getSubscriptions() {
         return subscriptions;
     }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Get name of receiver method.
+     * @param method receiver method;
+     * @return name in form {@code class#method};
+     * @since 6.1
+     */
+    public static String getName(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Balancer of point-to-point delivery: selects one receiver of subscription for message. 
+ * Implementations should be thread safe and should not modify given receivers.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public interface Balancer {
+    
+    /**
+     * Selects receiver for message.
+     * @param entries immutable snapshot of subscription receivers, at least one entry;
+     * @param holder message holder, may be null if message is unknown;
+     * @return selected receiver entry;
+     */
+    ReceiverEntry select(ReceiverEntry[] entries, MessageHolder holder);
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Delivery which receiver completes after return from {@code receive}, e.g. notification sent by 
+ * non-blocking bridge sender. Receiver defers completion of current delivery on its thread, 
+ * so in-flight state and delivery time of receiver are tracked until actual completion.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public final class DeferredDelivery {
+    
+    private static final ThreadLocal<DeferredDelivery> CURRENT = ThreadLocal.withInitial(DeferredDelivery::new);
+    
+    /**
+     * Completion of current delivery, null if delivery completes on return.
+     */
+    private CompletableFuture<?> completion;
+    
+    /**
+     * Depth of tracked deliveries on thread.
+     */
+    private int depth;
+    
+    private DeferredDelivery() {}
+    
+    /**
+     * Defers completion of delivery which is tracked on current thread, ignored if delivery isn't tracked.
+     * @param completion future completed after actual delivery;
+     */
+    public static void defer(CompletableFuture<?> completion) {
+        DeferredDelivery current = CURRENT.get();
+        if (current.depth > 0) {
+            current.completion = completion;
+        }
+    }
+    
+    /**
+     * Starts tracking of delivery on current thread.
+     * @return completion of enclosing delivery to pass to {@link #exit(CompletableFuture)};
+     */
+    public static CompletableFuture<?> enter() {
+        DeferredDelivery current = CURRENT.get();
+        CompletableFuture<?> enclosing = current.completion;
+        current.completion = null;
+        current.depth++;
+        return enclosing;
+    }
+    
+    /**
+     * Ends tracking of delivery on current thread.
+     * @param enclosing completion of enclosing delivery returned by {@link #enter()};
+     * @return deferred completion of delivery or null if delivery is completed;
+     */
+    public static CompletableFuture<?> exit(CompletableFuture<?> enclosing) {
+        DeferredDelivery current = CURRENT.get();
+        CompletableFuture<?> deferred = current.completion;
+        current.completion = enclosing;
+        current.depth--;
+        return deferred;
+    }
+}
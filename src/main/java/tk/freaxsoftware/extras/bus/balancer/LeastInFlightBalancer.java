@@ -0,0 +1,49 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Balancer which selects receiver with least amount of messages in processing. 
+ * Search starts from rotating position, so receivers with equal load are selected in turn.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class LeastInFlightBalancer implements Balancer {
+    
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public ReceiverEntry select(ReceiverEntry[] entries, MessageHolder holder) {
+        int start = Math.floorMod(counter.getAndIncrement(), entries.length);
+        ReceiverEntry selected = entries[start];
+        int selectedInFlight = selected.getInFlight();
+        for (int offset = 1; offset < entries.length && selectedInFlight > 0; offset++) {
+            ReceiverEntry entry = entries[(start + offset) % entries.length];
+            int inFlight = entry.getInFlight();
+            if (inFlight < selectedInFlight) {
+                selected = entry;
+                selectedInFlight = inFlight;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Balancer which selects less loaded of two random receivers (power of two choices). 
+ * Load of receiver is estimated as amount of messages in processing multiplied by 
+ * average delivery time, so slow receivers (like remote peers) get less messages than fast local ones. 
+ * Receivers without any delivery yet have zero load and selected at first.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class LeastLoadedBalancer implements Balancer {
+
+    @Override
+    public ReceiverEntry select(ReceiverEntry[] entries, MessageHolder holder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(entries.length);
+        int second = random.nextInt(entries.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        ReceiverEntry firstEntry = entries[first];
+        ReceiverEntry secondEntry = entries[second];
+        return getLoad(secondEntry) < getLoad(firstEntry) ? secondEntry : firstEntry;
+    }
+    
+    private long getLoad(ReceiverEntry entry) {
+        return (entry.getInFlight() + 1L) * entry.getLatency();
+    }
+}
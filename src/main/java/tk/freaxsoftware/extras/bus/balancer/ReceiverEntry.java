@@ -0,0 +1,103 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.WeightedReceiver;
+
+/**
+ * Receiver of subscription with its delivery state.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ReceiverEntry {
+    
+    /**
+     * Shift of EWMA smoothing factor, each new sample has weight 1/8.
+     */
+    private static final int EWMA_SHIFT = 3;
+    
+    private final Receiver receiver;
+    
+    /**
+     * Weight of receiver for weighted balancing.
+     */
+    private final int weight;
+    
+    /**
+     * Amount of messages currently processed by receiver.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    /**
+     * Exponentially weighted moving average of delivery time in nanoseconds.
+     */
+    private final AtomicLong latency = new AtomicLong();
+
+    public ReceiverEntry(Receiver receiver) {
+        this.receiver = receiver;
+        this.weight = receiver instanceof WeightedReceiver weighted ? Math.max(weighted.getWeight(), 0) : 1;
+    }
+
+    public Receiver getReceiver() {
+        return receiver;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    /**
+     * Get average delivery time of receiver.
+     * @return exponentially weighted moving average of delivery time in nanoseconds, 0 if there was no deliveries;
+     */
+    public long getLatency() {
+        return latency.get();
+    }
+    
+    /**
+     * Marks start of message delivery to receiver.
+     * @return start time in nanoseconds for {@link #onComplete(long)};
+     */
+    public long onStart() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Marks end of message delivery to receiver and updates average delivery time.
+     * @param start start time returned by {@link #onStart()};
+     */
+    public void onComplete(long start) {
+        inFlight.decrementAndGet();
+        long sample = Math.max(System.nanoTime() - start, 1);
+        long current;
+        long updated;
+        do {
+            current = latency.get();
+            updated = current == 0 ? sample : current + ((sample - current) >> EWMA_SHIFT);
+        } while (!latency.compareAndSet(current, updated));
+    }
+}
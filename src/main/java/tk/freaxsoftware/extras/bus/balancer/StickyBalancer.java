@@ -0,0 +1,74 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import tk.freaxsoftware.extras.bus.MessageHolder;
+
+/**
+ * Balancer which selects receiver by value of message header, so messages with the same key 
+ * are delivered to the same receiver. Rendezvous hashing is used: only keys of removed receiver 
+ * are moved on subscription change. Messages without header are balanced by round robin.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class StickyBalancer implements Balancer {
+    
+    /**
+     * Header with key of the message.
+     */
+    private final String header;
+    
+    private final RoundRobinBalancer fallback = new RoundRobinBalancer();
+
+    public StickyBalancer(String header) {
+        this.header = header;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    @Override
+    public ReceiverEntry select(ReceiverEntry[] entries, MessageHolder holder) {
+        Object key = holder != null && header != null ? holder.getHeaders().get(header) : null;
+        if (key == null) {
+            return fallback.select(entries, holder);
+        }
+        long keyHash = key.hashCode();
+        ReceiverEntry selected = entries[0];
+        long selectedScore = Long.MIN_VALUE;
+        for (ReceiverEntry entry: entries) {
+            long score = mix(keyHash * 31 + System.identityHashCode(entry.getReceiver()));
+            if (score > selectedScore) {
+                selected = entry;
+                selectedScore = score;
+            }
+        }
+        return selected;
+    }
+    
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.balancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.WeightedReceiver;
+
+/**
+ * Weighted round robin balancer: receiver gets share of messages proportional to its weight. 
+ * Weight is taken from {@link WeightedReceiver}, other receivers have weight 1.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class WeightedBalancer implements Balancer {
+    
+    private final AtomicInteger counter = new AtomicInteger();
+    
+    /**
+     * Cumulative weights of last used receivers snapshot.
+     */
+    private volatile Weights weights;
+
+    @Override
+    public ReceiverEntry select(ReceiverEntry[] entries, MessageHolder holder) {
+        Weights current = weights;
+        if (current == null || current.entries != entries) {
+            current = new Weights(entries);
+            weights = current;
+        }
+        if (current.total == 0) {
+            return entries[Math.floorMod(counter.getAndIncrement(), entries.length)];
+        }
+        long position = Math.floorMod(counter.getAndIncrement(), current.total);
+        int low = 0;
+        int high = entries.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (current.cumulative[middle] > position) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return entries[low];
+    }
+    
+    /**
+     * Cumulative weights of receivers snapshot.
+     */
+    private static class Weights {
+        
+        private final ReceiverEntry[] entries;
+        
+        private final long[] cumulative;
+        
+        private final int total;
+
+        private Weights(ReceiverEntry[] entries) {
+            this.entries = entries;
+            this.cumulative = new long[entries.length];
+            long sum = 0;
+            for (int index = 0; index < entries.length; index++) {
+                sum += entries[index].getWeight();
+                cumulative[index] = sum;
+            }
+            this.total = (int) Math.min(sum, Integer.MAX_VALUE);
+        }
+    }
+}
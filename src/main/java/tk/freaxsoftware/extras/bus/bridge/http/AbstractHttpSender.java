@@ -18,23 +18,38 @@
  */
 package tk.freaxsoftware.extras.bus.bridge.http;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.util.List;
 import java.util.Objects;
-import org.apache.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.apache.http.Header;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageOptions;
-import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+import tk.freaxsoftware.extras.bus.balancer.DeferredDelivery;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecEntity;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecs;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+import tk.freaxsoftware.extras.bus.config.http.BatchConfig;
+import tk.freaxsoftware.extras.bus.config.http.CompressionConfig;
 
 /**
  * Abstract HTTP sender implements single method for sending by http.
@@ -42,20 +57,114 @@ import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
  */
 public abstract class AbstractHttpSender {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpSender.class);
+    
+    /**
+     * Status of accepted correlated call.
+     */
+    private static final int HTTP_ACCEPTED = 202;
+    
+    /**
+     * Status of missing endpoint.
+     */
+    private static final int HTTP_NOT_FOUND = 404;
+    
+    /**
+     * Pooled http client, shared client is used if null.
+     */
+    private final BridgeHttpClient httpClient;
+    
+    /**
+     * Preferred wire format, global preferred codec is used if null.
+     */
+    private final WireFormat wireFormat;
+    
+    /**
+     * Codec negotiated with peer, json until peer advertises preferred codec.
+     */
+    private volatile MessageCodec codec = MessageCodecs.JSON;
+    
+    /**
+     * Batching config, batching is disabled if null.
+     */
+    private final BatchConfig batching;
+    
+    /**
+     * Batcher of async and broadcast entries, created on first batched entry.
+     */
+    private volatile EntryBatcher batcher;
+    
     /**
-     * Message util instance.
+     * Peer doesn't have batch endpoint, entries are sent one by one.
      */
-    private final HttpMessageEntryUtil messageUtil = new HttpMessageEntryUtil();
+    private volatile boolean batchingUnsupported;
     
     /**
-     * Http client instance.
+     * Queue of notifications in non-blocking mode, created on first notification.
      */
-    private final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
+    private volatile DeliveryQueue deliveries;
+    
+    /**
+     * Compressor of payloads, compression is disabled if null.
+     */
+    private final PayloadCompressor compressor;
+    
+    /**
+     * Content encodings accepted by peer, payloads aren't compressed until peer advertises them.
+     */
+    private volatile String acceptedEncodings;
+    
+    /**
+     * Default constructor, shared pooled client is used.
+     */
+    protected AbstractHttpSender() {
+        this(null);
+    }
+    
+    /**
+     * Constructor with dedicated pooled client.
+     * @param httpClient pooled client, shared client is used if null;
+     * @since 6.1
+     */
+    protected AbstractHttpSender(BridgeHttpClient httpClient) {
+        this(httpClient, null);
+    }
+    
+    /**
+     * Constructor with dedicated pooled client and preferred wire format.
+     * @param httpClient pooled client, shared client is used if null;
+     * @param wireFormat preferred wire format, global preferred format is used if null;
+     * @since 6.1
+     */
+    protected AbstractHttpSender(BridgeHttpClient httpClient, WireFormat wireFormat) {
+        this(httpClient, wireFormat, EntryBatcher.getDefaultConfig());
+    }
+    
+    /**
+     * Constructor with dedicated pooled client, preferred wire format and batching config.
+     * @param httpClient pooled client, shared client is used if null;
+     * @param wireFormat preferred wire format, global preferred format is used if null;
+     * @param batching batching config, batching is disabled if null;
+     * @since 6.1
+     */
+    protected AbstractHttpSender(BridgeHttpClient httpClient, WireFormat wireFormat, BatchConfig batching) {
+        this(httpClient, wireFormat, batching, PayloadCompressor.getDefaultConfig());
+    }
     
     /**
-     * Gson instance.
+     * Constructor with dedicated pooled client, preferred wire format, batching and compression configs.
+     * @param httpClient pooled client, shared client is used if null;
+     * @param wireFormat preferred wire format, global preferred format is used if null;
+     * @param batching batching config, batching is disabled if null;
+     * @param compression compression config, compression is disabled if null;
+     * @since 6.1
      */
-    private final Gson gson = GsonUtils.getGson();
+    protected AbstractHttpSender(BridgeHttpClient httpClient, WireFormat wireFormat, BatchConfig batching, CompressionConfig compression) {
+        this.httpClient = httpClient;
+        this.wireFormat = wireFormat;
+        this.batching = batching;
+        this.compressor = compression != null ? new PayloadCompressor(compression) : null;
+    }
     
     /**
      * Send message entry over HTTP to specified address and port.
@@ -69,23 +178,441 @@ public abstract class AbstractHttpSender {
      * @throws URISyntaxException 
      */
     protected HttpMessageEntry sendEntry(String address, Integer port, HttpMessageEntry entry) throws UnsupportedEncodingException, IOException, ClassNotFoundException, URISyntaxException {
-        HttpPost request = new HttpPost(new URI("http", null, address, port, LocalHttpCons.L_HTTP_URL, null, null));
-        request.setEntity(new StringEntity(gson.toJson(entry), ContentType.APPLICATION_JSON));
-        HttpResponse response = clientBuilder.build().execute(request);
-        if (Objects.equals(LocalHttpCons.Mode.CALLBACK.name(), entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER))) {
-            if (response.getEntity() != null) {
-                JsonObject bodyJson = new JsonParser().parse(new InputStreamReader(response.getEntity().getContent())).getAsJsonObject();
-                HttpMessageEntry responseEntry = messageUtil.deserialize(bodyJson);
-                return responseEntry;
+        return sendEntry(address, port, entry, false);
+    }
+    
+    /**
+     * Send message entry over HTTP to specified address and port. Open channel with node is used instead of HTTP request, 
+     * batched notifications are queued without waiting for delivery, other batched entries wait for delivery of batch, 
+     * non-blocking client is used in non-blocking mode.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param entry message entry to deliver;
+     * @param notification true if message doesn't need delivery result, see {@link #isNotification(MessageHolder)};
+     * @return response entry or null if there is no callback to return response;
+     * @throws UnsupportedEncodingException
+     * @throws IOException
+     * @throws ClassNotFoundException
+     * @throws URISyntaxException 
+     * @since 6.1
+     */
+    protected HttpMessageEntry sendEntry(String address, Integer port, HttpMessageEntry entry, boolean notification) throws UnsupportedEncodingException, IOException, ClassNotFoundException, URISyntaxException {
+        BridgeChannel channel = ChannelRegistry.get(address, port);
+        if (channel != null) {
+            return awaitResponse(address, port, entry, channel.send(entry));
+        }
+        if (isBatched(entry)) {
+            if (notification) {
+                queueBatched(address, port, entry);
+                return null;
+            }
+            return awaitResponse(address, port, entry, getBatcher(address, port).add(entry).thenApply(result -> null));
+        }
+        if (getHttpClient().isNonBlocking()) {
+            return awaitResponse(address, port, entry, sendEntryAsync(address, port, entry));
+        }
+        CompletableFuture<HttpMessageEntry> pending = isCorrelated(entry) ? CorrelationRegistry.register(entry) : null;
+        try {
+            HttpPost request = new HttpPost(new URI("http", null, address, port, LocalHttpCons.L_HTTP_URL, null, null));
+            if (compressor != null) {
+                MessageCodec requestCodec = codec;
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                requestCodec.encode(entry, body);
+                ContentEncoding encoding = compressor.select(body.size(), acceptedEncodings);
+                ByteArrayEntity requestEntity = new ByteArrayEntity(compressor.encode(body.toByteArray(), encoding));
+                requestEntity.setContentType(requestCodec.getContentType());
+                if (encoding != null) {
+                    requestEntity.setContentEncoding(encoding.getName());
+                }
+                request.setEntity(requestEntity);
             } else {
-                throw new IllegalStateException(String.format("Node %s:%d didn't return callback on message %s", address, port, entry.getTopic()));
+                request.setEntity(new MessageCodecEntity(codec, entry));
             }
-        } else {
-            if (response.getStatusLine().getStatusCode() > 400) {
-                throw new IllegalStateException(String.format("Node %s:%d returns error status %d on message %s", address, port, response.getStatusLine().getStatusCode(), entry.getTopic()));
+            try (CloseableHttpResponse response = getHttpClient().getClient().execute(request)) {
+                Header accepted = response.getFirstHeader(MessageCodecs.ACCEPT_POST_HEADER);
+                Header acceptedEncoding = response.getFirstHeader(ContentEncoding.ACCEPT_ENCODING_HEADER);
+                negotiate(accepted != null ? accepted.getValue() : null, acceptedEncoding != null ? acceptedEncoding.getValue() : null);
+                if (pending != null) {
+                    EntityUtils.consume(response.getEntity());
+                    if (response.getStatusLine().getStatusCode() != HTTP_ACCEPTED) {
+                        throw new IllegalStateException(String.format("Node %s:%d doesn't accept correlated call with status %d on message %s", address, port, response.getStatusLine().getStatusCode(), entry.getTopic()));
+                    }
+                } else if (Objects.equals(LocalHttpCons.Mode.CALLBACK.name(), entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER))) {
+                    if (response.getEntity() != null) {
+                        Header contentType = response.getEntity().getContentType();
+                        HttpMessageEntry responseEntry = MessageCodecs.forContentType(contentType != null ? contentType.getValue() : null)
+                                .decode(response.getEntity().getContent());
+                        EntityUtils.consume(response.getEntity());
+                        return responseEntry;
+                    } else {
+                        throw new IllegalStateException(String.format("Node %s:%d didn't return callback on message %s", address, port, entry.getTopic()));
+                    }
+                } else {
+                    EntityUtils.consume(response.getEntity());
+                    if (response.getStatusLine().getStatusCode() > 400) {
+                        throw new IllegalStateException(String.format("Node %s:%d returns error status %d on message %s", address, port, response.getStatusLine().getStatusCode(), entry.getTopic()));
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            if (pending != null) {
+                pending.cancel(true);
+            }
+            throw ex;
+        }
+        return pending != null ? awaitResponse(address, port, entry, pending) : null;
+    }
+    
+    /**
+     * Send message entry over HTTP to specified address and port without blocking of caller thread.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param entry message entry to deliver;
+     * @return future of response entry, it completes with null if there is no callback to return response;
+     * @since 6.1
+     */
+    protected CompletableFuture<HttpMessageEntry> sendEntryAsync(String address, Integer port, HttpMessageEntry entry) {
+        BridgeChannel channel = ChannelRegistry.get(address, port);
+        if (channel != null) {
+            return channel.send(entry);
+        }
+        if (isBatched(entry)) {
+            return getBatcher(address, port).add(entry).thenApply(result -> null);
+        }
+        CompletableFuture<HttpMessageEntry> pending = isCorrelated(entry) ? CorrelationRegistry.register(entry) : null;
+        HttpRequest request;
+        MessageCodec requestCodec = codec;
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            requestCodec.encode(entry, body);
+            request = buildRequest(LocalHttpCons.L_HTTP_URL, address, port, requestCodec, body);
+        } catch (IOException | URISyntaxException ex) {
+            if (pending != null) {
+                pending.cancel(true);
+            }
+            return CompletableFuture.failedFuture(ex);
+        }
+        CompletableFuture<java.net.http.HttpResponse<byte[]>> exchange = getHttpClient().getAsyncClient().sendAsync(request, java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<HttpMessageEntry> result = exchange.thenCompose(response -> {
+            negotiate(response.headers().firstValue(MessageCodecs.ACCEPT_POST_HEADER).orElse(null), 
+                    response.headers().firstValue(ContentEncoding.ACCEPT_ENCODING_HEADER).orElse(null));
+            if (pending != null) {
+                if (response.statusCode() != HTTP_ACCEPTED) {
+                    throw new IllegalStateException(String.format("Node %s:%d doesn't accept correlated call with status %d on message %s", address, port, response.statusCode(), entry.getTopic()));
+                }
+                return pending;
+            } else if (Objects.equals(LocalHttpCons.Mode.CALLBACK.name(), entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER))) {
+                if (response.body() != null && response.body().length > 0) {
+                    try {
+                        MessageCodec responseCodec = MessageCodecs.forContentType(response.headers().firstValue("Content-Type").orElse(null));
+                        return CompletableFuture.completedFuture(responseCodec.decode(ContentEncoding.decode(
+                                response.headers().firstValue(ContentEncoding.CONTENT_ENCODING_HEADER).orElse(null), new ByteArrayInputStream(response.body()), 
+                                PayloadCompressor.getMaxDecodedSize())));
+                    } catch (IOException | ClassNotFoundException ex) {
+                        throw new CompletionException(ex);
+                    }
+                } else {
+                    throw new IllegalStateException(String.format("Node %s:%d didn't return callback on message %s", address, port, entry.getTopic()));
+                }
+            } else if (response.statusCode() > 400) {
+                throw new IllegalStateException(String.format("Node %s:%d returns error status %d on message %s", address, port, response.statusCode(), entry.getTopic()));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        linkCancellation(exchange, result);
+        if (pending != null) {
+            linkCancellation(pending, result);
+            result.whenComplete((response, ex) -> {
+                if (ex != null) {
+                    pending.cancel(true);
+                }
+            });
+        }
+        return result;
+    }
+    
+    /**
+     * Send batch of entries to batch endpoint of the node without blocking of caller thread. 
+     * If node doesn't have batch endpoint then batching is disabled and entries are sent one by one.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param entries message entries to deliver;
+     * @return future of batch delivery;
+     * @since 6.1
+     */
+    protected CompletableFuture<Void> sendBatchAsync(String address, Integer port, List<HttpMessageEntry> entries) {
+        MessageCodec requestCodec = codec;
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpRequest request;
+        try {
+            requestCodec.encodeBatch(entries, body);
+            request = buildRequest(LocalHttpCons.L_HTTP_BATCH_URL, address, port, requestCodec, body);
+        } catch (IOException | URISyntaxException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return getHttpClient().getAsyncClient().sendAsync(request, java.net.http.HttpResponse.BodyHandlers.discarding()).thenCompose(response -> {
+            negotiate(response.headers().firstValue(MessageCodecs.ACCEPT_POST_HEADER).orElse(null), 
+                    response.headers().firstValue(ContentEncoding.ACCEPT_ENCODING_HEADER).orElse(null));
+            if (response.statusCode() == HTTP_NOT_FOUND) {
+                LOGGER.warn("Node {}:{} doesn't accept batches, sending messages one by one", address, port);
+                batchingUnsupported = true;
+                return CompletableFuture.allOf(entries.stream()
+                        .map(entry -> sendEntryAsync(address, port, entry)).toArray(CompletableFuture[]::new));
+            } else if (response.statusCode() > 400) {
+                throw new IllegalStateException(String.format("Node %s:%d returns error status %d on batch of %d messages", address, port, response.statusCode(), entries.size()));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+    
+    /**
+     * Checks if message can be sent without waiting for its delivery: sender is in non-blocking mode 
+     * and message is notification.
+     * @param message message holder;
+     * @return true if message should be sent by {@link #detach(MessageHolder, Supplier)};
+     * @since 6.1
+     */
+    protected boolean isDetached(MessageHolder message) {
+        return getHttpClient().isNonBlocking() && isNotification(message);
+    }
+    
+    /**
+     * Checks if message is notification without callback which isn't stored, so delivery result isn't used by message bus.
+     * @param message message holder;
+     * @return true if message doesn't need delivery result;
+     * @since 6.1
+     */
+    protected boolean isNotification(MessageHolder message) {
+        return message.getOptions().getDeliveryPolicy() == MessageOptions.DeliveryPolicy.VOID
+                && message.getOptions().getCallback() == null 
+                && !message.getHeaders().containsKey(LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER);
+    }
+    
+    /**
+     * Checks if notifications are queued to batch by blocking sends.
+     * @return true if batching enabled and node accepts batches;
+     * @since 6.1
+     */
+    protected boolean isBatching() {
+        return batching != null && !batchingUnsupported;
+    }
+    
+    /**
+     * Starts delivery which caller doesn't wait for. Caller is blocked only if node already has max amount 
+     * of pending deliveries, errors of delivery are logged. Completion of delivery is deferred by 
+     * {@link DeferredDelivery}, so balancers see delivery time and in-flight state of the node.
+     * @param message message holder;
+     * @param delivery starts async delivery of message;
+     * @throws InterruptedException if waiting for pending deliveries was interrupted;
+     * @since 6.1
+     */
+    protected void detach(MessageHolder message, Supplier<CompletableFuture<Void>> delivery) throws InterruptedException {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        try {
+            getDeliveries().submit(() -> {
+                CompletableFuture<Void> future;
+                try {
+                    future = delivery.get();
+                } catch (RuntimeException ex) {
+                    future = CompletableFuture.failedFuture(ex);
+                }
+                future.whenComplete((result, ex) -> completion.complete(null));
+                return future;
+            }, ex -> LOGGER.error("Unable to deliver message {} on topic {}", message.getId(), message.getTopic(), ex));
+        } catch (InterruptedException ex) {
+            completion.complete(null);
+            throw ex;
+        }
+        DeferredDelivery.defer(completion);
+    }
+    
+    /**
+     * Get amount of notifications which are sent in non-blocking mode but not delivered yet.
+     * @return amount of pending deliveries;
+     * @since 6.1
+     */
+    public int getPendingCount() {
+        DeliveryQueue current = deliveries;
+        return current != null ? current.getPendingCount() : 0;
+    }
+    
+    /**
+     * Get pooled client of sender.
+     * @return dedicated or shared pooled client;
+     */
+    protected BridgeHttpClient getHttpClient() {
+        return httpClient != null ? httpClient : BridgeHttpClient.getShared();
+    }
+    
+    /**
+     * Get codec negotiated with peer.
+     * @return codec of next requests;
+     * @since 6.1
+     */
+    protected MessageCodec getCodec() {
+        return codec;
+    }
+    
+    /**
+     * Switch codec and content encoding of next requests by media types and encodings accepted by peer.
+     * @param acceptedTypes accepted media types returned by peer or null;
+     * @param acceptedEncodings accepted content encodings returned by peer or null;
+     */
+    private void negotiate(String acceptedTypes, String acceptedEncodings) {
+        MessageCodec preferred = wireFormat != null ? wireFormat.getCodec() : MessageCodecs.getPreferred();
+        codec = MessageCodecs.negotiate(preferred, acceptedTypes);
+        this.acceptedEncodings = acceptedEncodings;
+    }
+    
+    /**
+     * Build request of non-blocking client, payload is compressed if compression is enabled and peer accepts it.
+     * @param path path of endpoint;
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param requestCodec codec of payload;
+     * @param body encoded payload;
+     * @return request to send;
+     * @throws IOException if compression failed;
+     * @throws URISyntaxException 
+     */
+    private HttpRequest buildRequest(String path, String address, Integer port, MessageCodec requestCodec, ByteArrayOutputStream body) throws IOException, URISyntaxException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(new URI("http", null, address, port, path, null, null))
+                .header("Content-Type", requestCodec.getContentType())
+                .header(ContentEncoding.ACCEPT_ENCODING_HEADER, ContentEncoding.ACCEPTED_ENCODINGS);
+        if (getHttpClient().getRequestTimeout() != null) {
+            builder.timeout(getHttpClient().getRequestTimeout());
+        }
+        byte[] payload = body.toByteArray();
+        if (compressor != null) {
+            ContentEncoding encoding = compressor.select(payload.length, acceptedEncodings);
+            payload = compressor.encode(payload, encoding);
+            if (encoding != null) {
+                builder.header(ContentEncoding.CONTENT_ENCODING_HEADER, encoding.getName());
+            }
+        }
+        return builder.POST(HttpRequest.BodyPublishers.ofByteArray(payload)).build();
+    }
+    
+    /**
+     * Get queue of deliveries, sender delivers to single node so queue is created once.
+     * @return queue of deliveries;
+     */
+    private DeliveryQueue getDeliveries() {
+        DeliveryQueue current = deliveries;
+        if (current == null) {
+            synchronized (this) {
+                current = deliveries;
+                if (current == null) {
+                    current = new DeliveryQueue(getHttpClient().getMaxPendingPerPeer(), getHttpClient().getMaxConnectionsPerPeer());
+                    deliveries = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Checks if entry should be sent in batch.
+     * @param entry message entry to send;
+     * @return true if batching enabled and entry doesn't wait for response;
+     */
+    private boolean isBatched(HttpMessageEntry entry) {
+        return isBatching() && !isCorrelated(entry)
+                && !Objects.equals(LocalHttpCons.Mode.CALLBACK.name(), entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER));
+    }
+    
+    /**
+     * Get batcher of sender, sender delivers to single node so batcher is created once.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @return batcher of entries;
+     */
+    private EntryBatcher getBatcher(String address, Integer port) {
+        EntryBatcher current = batcher;
+        if (current == null) {
+            synchronized (this) {
+                current = batcher;
+                if (current == null) {
+                    current = new EntryBatcher(batching, entries -> sendBatchAsync(address, port, entries));
+                    batcher = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Queues entry to batch without waiting for batch delivery, result of delivery is passed to {@link #onQueuedDelivery(HttpMessageEntry, Throwable)}.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param entry batched message entry;
+     */
+    private void queueBatched(String address, Integer port, HttpMessageEntry entry) {
+        getBatcher(address, port).add(entry).whenComplete((result, ex) -> onQueuedDelivery(entry, ex));
+    }
+    
+    /**
+     * Called on completion of batch delivery of queued notification, errors are logged.
+     * @param entry batched message entry;
+     * @param ex error of delivery or null if batch was delivered;
+     * @since 6.1
+     */
+    protected void onQueuedDelivery(HttpMessageEntry entry, Throwable ex) {
+        if (ex != null) {
+            LOGGER.error("Unable to deliver batched message {} on topic {}", entry.getId(), entry.getTopic(), ex);
+        }
+    }
+    
+    /**
+     * Checks if entry should be sent as correlated call.
+     * @param entry message entry to send;
+     * @return true if entry is call and correlated calls are enabled;
+     */
+    private boolean isCorrelated(HttpMessageEntry entry) {
+        return CorrelationRegistry.isEnabled() 
+                && Objects.equals(LocalHttpCons.Mode.CALLBACK.name(), entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER));
+    }
+    
+    /**
+     * Blocks until response of correlated call or call over channel is received.
+     * @param address ip address or host;
+     * @param port port number of HTTP server;
+     * @param entry sent message entry;
+     * @param pending pending call;
+     * @return response entry;
+     * @throws IOException if waiting was interrupted;
+     */
+    private HttpMessageEntry awaitResponse(String address, Integer port, HttpMessageEntry entry, CompletableFuture<HttpMessageEntry> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.cancel(true);
+            throw new InterruptedIOException(String.format("Interrupted while waiting for response of node %s:%d on message %s", address, port, entry.getTopic()));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException(String.format("Node %s:%d didn't return response in time on message %s", address, port, entry.getTopic()));
             }
+            throw new IllegalStateException(ex.getCause());
         }
-        return null;
+    }
+    
+    /**
+     * Propagates cancellation of dependent future to source future, so cancelled call aborts HTTP exchange.
+     * @param <T> type of source result;
+     * @param <U> type of dependent result;
+     * @param source source future;
+     * @param dependent future derived from source;
+     * @return dependent future;
+     * @since 6.1
+     */
+    protected static <T, U> CompletableFuture<U> linkCancellation(CompletableFuture<T> source, CompletableFuture<U> dependent) {
+        dependent.whenComplete((result, ex) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
     }
     
     /**
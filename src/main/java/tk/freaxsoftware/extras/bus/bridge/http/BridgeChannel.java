@@ -0,0 +1,227 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageContext;
+import tk.freaxsoftware.extras.bus.MessageContextHolder;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageIds;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.ResponseHolder;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
+/**
+ * Persistent bidirectional connection with other node. Each frame carries single message entry, 
+ * calls are sent with call id header and answered by response frame with reply header, so 
+ * messages, subscriptions, heartbeats and responses are multiplexed over single connection.
+ * Binary frames are encoded by binary codec and text frames by json codec.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public abstract class BridgeChannel {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(BridgeChannel.class);
+    
+    /**
+     * Address of other node.
+     */
+    protected final String address;
+    
+    /**
+     * Port of other node server.
+     */
+    protected final Integer port;
+    
+    /**
+     * Wire format of sent frames.
+     */
+    protected final WireFormat wireFormat;
+    
+    /**
+     * Calls which are waiting for response frames by call id.
+     */
+    private final Map<String, CompletableFuture<HttpMessageEntry>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     * @param address address of other node;
+     * @param port port of other node server;
+     * @param wireFormat wire format of sent frames;
+     */
+    protected BridgeChannel(String address, Integer port, WireFormat wireFormat) {
+        this.address = address;
+        this.port = port;
+        this.wireFormat = wireFormat;
+    }
+    
+    /**
+     * Send message entry over channel.
+     * @param entry message entry to deliver;
+     * @return future of response entry, it completes with null after frame write if entry is not a call;
+     */
+    public CompletableFuture<HttpMessageEntry> send(HttpMessageEntry entry) {
+        if (!LocalHttpCons.Mode.CALLBACK.name().equals(entry.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER))) {
+            return writeEntry(entry).thenApply(ignored -> null);
+        }
+        String callId = MessageIds.newId();
+        CompletableFuture<HttpMessageEntry> pending = new CompletableFuture<>();
+        calls.put(callId, pending);
+        pending.orTimeout(CorrelationRegistry.getTimeout(), TimeUnit.SECONDS).whenComplete((response, ex) -> calls.remove(callId, pending));
+        entry.getHeaders().put(LocalHttpCons.L_HTTP_CHANNEL_CALL_HEADER, callId);
+        writeEntry(entry).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                pending.completeExceptionally(ex);
+            }
+        });
+        return pending;
+    }
+    
+    /**
+     * Handles received frame: completes pending call by response or fires message.
+     * @param frame frame payload;
+     * @param binary frame is binary and encoded by binary codec;
+     */
+    protected void receiveFrame(byte[] frame, boolean binary) {
+        HttpMessageEntry entry;
+        try {
+            entry = (binary ? WireFormat.BINARY : WireFormat.JSON).getCodec().decode(new ByteArrayInputStream(frame));
+        } catch (IOException | ClassNotFoundException ex) {
+            LOGGER.error("Can't decode frame from node {}:{}", address, port, ex);
+            return;
+        }
+        String replyId = (String) entry.getHeaders().remove(LocalHttpCons.L_HTTP_CHANNEL_REPLY_HEADER);
+        if (replyId != null) {
+            complete(replyId, entry);
+            return;
+        }
+        MessageContextHolder.setContext(new MessageContext(entry.getTrxId()));
+        try {
+            String callId = (String) entry.getHeaders().remove(LocalHttpCons.L_HTTP_CHANNEL_CALL_HEADER);
+            entry.getHeaders().put(LocalHttpCons.L_HTTP_NODE_IP_HEADER, address);
+            MessageHolder holder = entry.toMessageHolder();
+            if (callId != null) {
+                if (!MessageBus.isSubscribed(holder.getTopic())) {
+                    HttpMessageEntry error = new HttpMessageEntry();
+                    error.setTopic(holder.getTopic());
+                    error.setHeaders(Map.of(LocalHttpCons.L_HTTP_CHANNEL_ERROR_HEADER, String.format("Node doesn't have subscribers for %s", holder.getTopic())));
+                    reply(callId, error);
+                    return;
+                }
+                holder.setOptions(MessageOptions.Builder.newInstance().deliveryCall().async().headers(entry.getHeaders())
+                        .callback((ResponseHolder response) -> {
+                            HttpMessageEntry responseEntry = new HttpMessageEntry();
+                            responseEntry.initAsResponse(holder, response);
+                            reply(callId, responseEntry);
+                        }).build());
+            } else {
+                LocalHttpCons.Mode mode = LocalHttpCons.Mode.valueOf((String) entry.getHeaders().getOrDefault(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.ASYNC.name()));
+                holder.setOptions(MessageServer.buildAsyncOptions(mode, entry, holder));
+            }
+            MessageBus.fire(holder);
+        } finally {
+            MessageContextHolder.clearContext();
+        }
+    }
+    
+    /**
+     * Handles closing of connection: removes channel from registry and fails pending calls.
+     * @param cause cause of closing or null if connection was closed normally;
+     */
+    protected void closed(Throwable cause) {
+        ChannelRegistry.unregister(this);
+        IOException ex = new IOException(String.format("Channel to node %s:%d is closed", address, port), cause);
+        calls.values().forEach(call -> call.completeExceptionally(ex));
+        calls.clear();
+    }
+    
+    /**
+     * Write frame to connection.
+     * @param frame frame payload;
+     * @param binary send as binary frame or as text frame;
+     * @return future of write;
+     */
+    protected abstract CompletableFuture<Void> writeFrame(byte[] frame, boolean binary);
+    
+    /**
+     * Checks if connection is open.
+     * @return true if frames can be written;
+     */
+    public abstract boolean isOpen();
+    
+    /**
+     * Close connection.
+     */
+    public abstract void close();
+
+    public String getAddress() {
+        return address;
+    }
+
+    public Integer getPort() {
+        return port;
+    }
+    
+    /**
+     * Get amount of calls which are waiting for responses.
+     * @return amount of pending calls;
+     */
+    public int getPendingCount() {
+        return calls.size();
+    }
+    
+    private CompletableFuture<Void> writeEntry(HttpMessageEntry entry) {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        try {
+            wireFormat.getCodec().encode(entry, frame);
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return writeFrame(frame.toByteArray(), wireFormat == WireFormat.BINARY);
+    }
+    
+    private void reply(String callId, HttpMessageEntry response) {
+        response.getHeaders().put(LocalHttpCons.L_HTTP_CHANNEL_REPLY_HEADER, callId);
+        writeEntry(response).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                LOGGER.error("Can't send response {} on message {} to node {}:{}", callId, response.getTopic(), address, port, ex);
+            }
+        });
+    }
+    
+    private void complete(String callId, HttpMessageEntry response) {
+        CompletableFuture<HttpMessageEntry> call = calls.remove(callId);
+        if (call == null) {
+            LOGGER.warn("Response {} on topic {} from node {}:{} has no pending call, skipping;", callId, response.getTopic(), address, port);
+        } else if (response.getHeaders().containsKey(LocalHttpCons.L_HTTP_CHANNEL_ERROR_HEADER)) {
+            call.completeExceptionally(new IllegalStateException((String) response.getHeaders().get(LocalHttpCons.L_HTTP_CHANNEL_ERROR_HEADER)));
+        } else {
+            call.complete(response);
+        }
+    }
+}
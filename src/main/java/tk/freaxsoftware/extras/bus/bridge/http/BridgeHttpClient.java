@@ -0,0 +1,233 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.config.http.ConnectionConfig;
+
+/**
+ * Pooled HTTP client of the bridge. Connections are kept alive and reused by all messages sent to the same node, 
+ * amount of connections is limited per node and in total. Shared instance is used by peer senders and callbacks, 
+ * client sender uses its own instance configured by client config. In non-blocking mode all messages are sent by 
+ * non-blocking client which runs on small fixed pool, so completion callbacks of sent messages shouldn't block.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BridgeHttpClient implements Closeable {
+    
+    private final static Logger LOGGER = LoggerFactory.getLogger(BridgeHttpClient.class);
+    
+    private static final int DEFAULT_MAX_CONNECTIONS = 200;
+    
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_PEER = 20;
+    
+    private static final int DEFAULT_KEEP_ALIVE = 60;
+    
+    private static final int DEFAULT_CONNECT_TIMEOUT = 5;
+    
+    private static final int DEFAULT_MAX_PENDING_PER_PEER = 1000;
+    
+    /**
+     * Shared instance.
+     */
+    private static BridgeHttpClient shared;
+    
+    /**
+     * Shutdown hook closing shared instance was registered.
+     */
+    private static boolean shutdownHookRegistered;
+    
+    private final PoolingHttpClientConnectionManager connectionManager;
+    
+    /**
+     * Blocking pooled client.
+     */
+    private final CloseableHttpClient client;
+    
+    /**
+     * Non-blocking client.
+     */
+    private final HttpClient asyncClient;
+    
+    /**
+     * Timeout of connection establishing.
+     */
+    private final Duration connectTimeout;
+    
+    /**
+     * Timeout of waiting for response, null if response is awaited without limit.
+     */
+    private final Duration requestTimeout;
+    
+    /**
+     * Senders use non-blocking client for all messages.
+     */
+    private final boolean nonBlocking;
+    
+    /**
+     * Max amount of pending notifications to single node.
+     */
+    private final int maxPendingPerPeer;
+    
+    /**
+     * Small fixed pool of non-blocking client in non-blocking mode, null otherwise.
+     */
+    private final ExecutorService asyncExecutor;
+
+    /**
+     * Default constructor.
+     * @param config connection config, defaults are used if null;
+     */
+    public BridgeHttpClient(ConnectionConfig config) {
+        ConnectionConfig connectionConfig = config != null ? config : new ConnectionConfig();
+        int keepAlive = valueOrDefault(connectionConfig.getKeepAlive(), DEFAULT_KEEP_ALIVE);
+        int connectTimeout = valueOrDefault(connectionConfig.getConnectTimeout(), DEFAULT_CONNECT_TIMEOUT);
+        Integer socketTimeout = connectionConfig.getSocketTimeout();
+        connectionManager = new PoolingHttpClientConnectionManager(keepAlive, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(valueOrDefault(connectionConfig.getMaxConnections(), DEFAULT_MAX_CONNECTIONS));
+        connectionManager.setDefaultMaxPerRoute(valueOrDefault(connectionConfig.getMaxConnectionsPerPeer(), DEFAULT_MAX_CONNECTIONS_PER_PEER));
+        client = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeUnit.SECONDS.toMillis(keepAlive))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout((int) TimeUnit.SECONDS.toMillis(connectTimeout))
+                        .setConnectionRequestTimeout((int) TimeUnit.SECONDS.toMillis(connectTimeout))
+                        .setSocketTimeout(socketTimeout != null ? (int) TimeUnit.SECONDS.toMillis(socketTimeout) : 0).build())
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.SECONDS)
+                .build();
+        nonBlocking = Boolean.TRUE.equals(connectionConfig.getNonBlocking());
+        maxPendingPerPeer = valueOrDefault(connectionConfig.getMaxPendingPerPeer(), DEFAULT_MAX_PENDING_PER_PEER);
+        HttpClient.Builder asyncBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(connectTimeout));
+        if (nonBlocking) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            asyncExecutor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "messagebus-http-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            asyncBuilder.executor(asyncExecutor);
+        } else {
+            asyncExecutor = null;
+        }
+        asyncClient = asyncBuilder.build();
+        this.connectTimeout = Duration.ofSeconds(connectTimeout);
+        requestTimeout = socketTimeout != null ? Duration.ofSeconds(socketTimeout) : null;
+    }
+    
+    /**
+     * Get shared instance, it's created with default config if it wasn't configured.
+     * @return shared client;
+     */
+    public static synchronized BridgeHttpClient getShared() {
+        if (shared == null) {
+            shared = new BridgeHttpClient(null);
+        }
+        return shared;
+    }
+    
+    /**
+     * Configures shared instance, previous instance is closed. Shared instance is closed on JVM shutdown.
+     * @param config connection config;
+     */
+    public static synchronized void configureShared(ConnectionConfig config) {
+        if (shared != null) {
+            shared.close();
+        }
+        shared = new BridgeHttpClient(config);
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(BridgeHttpClient::closeShared));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    /**
+     * Closes shared instance, new one will be created on next use.
+     */
+    public static synchronized void closeShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    public CloseableHttpClient getClient() {
+        return client;
+    }
+
+    public HttpClient getAsyncClient() {
+        return asyncClient;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Get timeout of waiting for response.
+     * @return timeout or null if response is awaited without limit;
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public int getMaxConnectionsPerPeer() {
+        return connectionManager.getDefaultMaxPerRoute();
+    }
+
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public int getMaxPendingPerPeer() {
+        return maxPendingPerPeer;
+    }
+
+    @Override
+    public void close() {
+        try {
+            client.close();
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to close HTTP client", ex);
+        }
+        asyncClient.close();
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+    }
+    
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
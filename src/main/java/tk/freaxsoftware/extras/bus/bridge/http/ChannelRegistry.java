@@ -0,0 +1,85 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of open channels by address and server port of other node. Senders deliver 
+ * entries over registered channel and use HTTP requests if node has no open channel.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ChannelRegistry {
+    
+    private final static Logger LOGGER = LoggerFactory.getLogger(ChannelRegistry.class);
+    
+    private final static Map<String, BridgeChannel> channels = new ConcurrentHashMap<>();
+    
+    /**
+     * Registers open channel, previous channel of the same node is closed.
+     * @param channel open channel;
+     */
+    public static void register(BridgeChannel channel) {
+        BridgeChannel previous = channels.put(key(channel.getAddress(), channel.getPort()), channel);
+        LOGGER.info("Register channel with node {}:{}", channel.getAddress(), channel.getPort());
+        if (previous != null && previous != channel) {
+            previous.close();
+        }
+    }
+    
+    /**
+     * Removes channel from registry if it's still registered.
+     * @param channel closed channel;
+     */
+    public static void unregister(BridgeChannel channel) {
+        if (channels.remove(key(channel.getAddress(), channel.getPort()), channel)) {
+            LOGGER.info("Unregister channel with node {}:{}", channel.getAddress(), channel.getPort());
+        }
+    }
+    
+    /**
+     * Get open channel with node.
+     * @param address address of node;
+     * @param port port of node server;
+     * @return open channel or null if node should be reached by HTTP;
+     */
+    public static BridgeChannel get(String address, Integer port) {
+        if (channels.isEmpty()) {
+            return null;
+        }
+        BridgeChannel channel = channels.get(key(address, port));
+        return channel != null && channel.isOpen() ? channel : null;
+    }
+    
+    /**
+     * Get amount of registered channels.
+     * @return amount of channels;
+     */
+    public static int getChannelCount() {
+        return channels.size();
+    }
+    
+    private static String key(String address, Integer port) {
+        return address + ":" + port;
+    }
+}
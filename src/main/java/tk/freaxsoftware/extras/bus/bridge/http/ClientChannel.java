@@ -0,0 +1,230 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
+/**
+ * Client side of channel, keeps WebSocket connection to server node and reconnects after its loss.
+ * Messages are sent by HTTP while channel is not connected.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ClientChannel extends BridgeChannel implements WebSocket.Listener {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientChannel.class);
+    
+    /**
+     * Delay in seconds before next connection attempt.
+     */
+    public static final int RECONNECT_DELAY = 5;
+    
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "messagebus-channel");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * Port of this node server.
+     */
+    private final Integer localPort;
+    
+    private final BridgeHttpClient httpClient;
+    
+    private volatile WebSocket socket;
+    
+    /**
+     * Last frame write, WebSocket accepts next frame only after completion of previous one.
+     */
+    private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+    
+    /**
+     * Parts of received text frame.
+     */
+    private final StringBuilder textFrame = new StringBuilder();
+    
+    /**
+     * Parts of received binary frame.
+     */
+    private final ByteArrayOutputStream binaryFrame = new ByteArrayOutputStream();
+    
+    /**
+     * Connection is lost or wasn't established, next failure is logged on debug level.
+     */
+    private volatile boolean disconnected;
+    
+    /**
+     * Channel is closed by owner and shouldn't reconnect.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Default constructor.
+     * @param address address of server node;
+     * @param port port of server node;
+     * @param localPort port of this node server;
+     * @param wireFormat wire format of frames in both directions;
+     * @param httpClient pooled client which opens connection;
+     */
+    public ClientChannel(String address, Integer port, Integer localPort, WireFormat wireFormat, BridgeHttpClient httpClient) {
+        super(address, port, wireFormat);
+        this.localPort = localPort;
+        this.httpClient = httpClient;
+    }
+    
+    /**
+     * Open connection to server node, channel is registered after handshake.
+     */
+    public void connect() {
+        if (stopped) {
+            return;
+        }
+        URI uri;
+        try {
+            uri = new URI("ws", null, address, port, LocalHttpCons.L_HTTP_CHANNEL_URL, 
+                    String.format("%s=%d&%s=%s", LocalHttpCons.L_HTTP_CHANNEL_PORT_PARAM, localPort, LocalHttpCons.L_HTTP_CHANNEL_FORMAT_PARAM, wireFormat.name()), null);
+        } catch (URISyntaxException ex) {
+            LOGGER.error("Can't build channel URI for node {}:{}", address, port, ex);
+            return;
+        }
+        httpClient.getAsyncClient().newWebSocketBuilder().connectTimeout(httpClient.getConnectTimeout())
+                .buildAsync(uri, this).whenComplete((webSocket, ex) -> {
+            if (ex != null) {
+                if (disconnected) {
+                    LOGGER.debug("Can't open channel to node {}:{}: {}", address, port, ex.getMessage());
+                } else {
+                    LOGGER.warn("Can't open channel to node {}:{}, sending messages by HTTP: {}", address, port, ex.getMessage());
+                    disconnected = true;
+                }
+                reconnect();
+                return;
+            }
+            synchronized (this) {
+                socket = webSocket;
+                lastWrite = CompletableFuture.completedFuture(null);
+            }
+            disconnected = false;
+            ChannelRegistry.register(this);
+            if (stopped) {
+                close();
+            }
+        });
+    }
+
+    @Override
+    protected synchronized CompletableFuture<Void> writeFrame(byte[] frame, boolean binary) {
+        WebSocket current = socket;
+        if (current == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException(String.format("Channel to node %s:%d isn't connected", address, port)));
+        }
+        CompletableFuture<Void> write = lastWrite.exceptionally(ex -> null).thenCompose(ignored -> binary 
+                ? current.sendBinary(ByteBuffer.wrap(frame), true) 
+                : current.sendText(new String(frame, StandardCharsets.UTF_8), true)).thenAccept(webSocket -> {});
+        lastWrite = write;
+        return write;
+    }
+
+    @Override
+    public boolean isOpen() {
+        WebSocket current = socket;
+        return current != null && !current.isOutputClosed() && !current.isInputClosed();
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        WebSocket current = socket;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "").whenComplete((webSocket, ex) -> current.abort());
+        }
+        closed(null);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        textFrame.append(data);
+        if (last) {
+            byte[] frame = textFrame.toString().getBytes(StandardCharsets.UTF_8);
+            textFrame.setLength(0);
+            receiveFrame(frame, false);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        byte[] part = new byte[data.remaining()];
+        data.get(part);
+        binaryFrame.write(part, 0, part.length);
+        if (last) {
+            byte[] frame = binaryFrame.toByteArray();
+            binaryFrame.reset();
+            receiveFrame(frame, true);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        LOGGER.warn("Channel to node {}:{} is closed with status {} {}, sending messages by HTTP", address, port, statusCode, reason);
+        disconnect(webSocket, null);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        LOGGER.warn("Channel to node {}:{} is broken, sending messages by HTTP: {}", address, port, error.getMessage());
+        disconnect(webSocket, error);
+    }
+    
+    private void disconnect(WebSocket webSocket, Throwable cause) {
+        synchronized (this) {
+            if (socket != webSocket) {
+                return;
+            }
+            socket = null;
+        }
+        disconnected = true;
+        webSocket.abort();
+        closed(cause);
+        reconnect();
+    }
+    
+    private void reconnect() {
+        if (!stopped) {
+            SCHEDULER.schedule(this::connect, RECONNECT_DELAY, TimeUnit.SECONDS);
+        }
+    }
+}
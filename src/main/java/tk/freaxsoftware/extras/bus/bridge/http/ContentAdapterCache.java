@@ -0,0 +1,150 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of gson adapters of message content by type name, full class name and class. 
+ * Keeps class loading and adapter lookup out of the receive path. Cache is warmed by types 
+ * registered in {@link TypeResolver}, types registered later are cached on first use.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ContentAdapterCache {
+    
+    /**
+     * Default max amount of entries in each cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    
+    /**
+     * Gson instance.
+     */
+    private final Gson gson;
+    
+    /**
+     * Max amount of entries in each cache.
+     */
+    private final int maxSize;
+    
+    /**
+     * Adapters of registered types by type name.
+     */
+    private final Map<String, RegisteredAdapter> registered = new ConcurrentHashMap<>();
+    
+    /**
+     * Adapters by full class name.
+     */
+    private final Map<String, TypeAdapter<Object>> byClassName = new ConcurrentHashMap<>();
+    
+    /**
+     * Adapters by class of content.
+     */
+    private final Map<Class, TypeAdapter<Object>> byClass = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     * @param gson gson instance;
+     */
+    public ContentAdapterCache(Gson gson) {
+        this(gson, DEFAULT_MAX_SIZE);
+    }
+    
+    /**
+     * Constructor with size limit.
+     * @param gson gson instance;
+     * @param maxSize max amount of entries in each cache;
+     */
+    public ContentAdapterCache(Gson gson, int maxSize) {
+        this.gson = gson;
+        this.maxSize = maxSize;
+        TypeResolver.getRegisteredTypes().forEach((type, token) -> 
+                registered.put(type, new RegisteredAdapter(token, gson.getAdapter(token))));
+    }
+    
+    /**
+     * Get adapter of content by registered type name or by full class name.
+     * @param typeName name of registered type or null;
+     * @param fullTypeName full class name or null;
+     * @return adapter of content or null if there is no type names;
+     * @throws ClassNotFoundException if content class not found;
+     */
+    public TypeAdapter<Object> getAdapter(String typeName, String fullTypeName) throws ClassNotFoundException {
+        if (typeName != null) {
+            TypeToken token = TypeResolver.resolveType(typeName);
+            if (token != null) {
+                RegisteredAdapter cached = registered.get(typeName);
+                if (cached == null || cached.token != token) {
+                    cached = new RegisteredAdapter(token, gson.getAdapter(token));
+                    put(registered, typeName, cached);
+                }
+                return cached.adapter;
+            }
+        }
+        if (fullTypeName != null) {
+            TypeAdapter<Object> adapter = byClassName.get(fullTypeName);
+            if (adapter == null) {
+                adapter = (TypeAdapter<Object>) gson.getAdapter(Class.forName(fullTypeName));
+                put(byClassName, fullTypeName, adapter);
+            }
+            return adapter;
+        }
+        return null;
+    }
+    
+    /**
+     * Get adapter of content by its class.
+     * @param type class of content;
+     * @return adapter of content;
+     */
+    public TypeAdapter<Object> getAdapter(Class type) {
+        TypeAdapter<Object> adapter = byClass.get(type);
+        if (adapter == null) {
+            adapter = (TypeAdapter<Object>) gson.getAdapter(type);
+            put(byClass, type, adapter);
+        }
+        return adapter;
+    }
+    
+    private <K, V> void put(Map<K, V> cache, K key, V value) {
+        if (cache.size() < maxSize || cache.containsKey(key)) {
+            cache.put(key, value);
+        }
+    }
+    
+    /**
+     * Adapter of registered type with token it was created for.
+     */
+    private static class RegisteredAdapter {
+        
+        private final TypeToken token;
+        
+        private final TypeAdapter<Object> adapter;
+
+        RegisteredAdapter(TypeToken token, TypeAdapter adapter) {
+            this.token = token;
+            this.adapter = adapter;
+        }
+    }
+}
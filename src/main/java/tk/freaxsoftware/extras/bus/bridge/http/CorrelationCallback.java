@@ -0,0 +1,127 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.Callback;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.ResponseHolder;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecEntity;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecs;
+import tk.freaxsoftware.extras.bus.config.http.CompressionConfig;
+
+/**
+ * Callback of correlated call, sends response back to the node which waits for it.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class CorrelationCallback implements Callback<Object> {
+    
+    private final static Logger LOGGER = LoggerFactory.getLogger(CorrelationCallback.class);
+    
+    private final MessageHolder holder;
+    
+    private final String address;
+    
+    private final int port;
+    
+    private final String correlationId;
+    
+    private final MessageCodec codec;
+    
+    private final ContentEncoding encoding;
+
+    public CorrelationCallback(MessageHolder holder, Map<String, String> headers) {
+        this(holder, headers, MessageCodecs.JSON);
+    }
+
+    /**
+     * Constructor with codec of response.
+     * @param holder called message;
+     * @param headers headers of call entry;
+     * @param codec codec of call entry, response is sent with the same codec;
+     */
+    public CorrelationCallback(MessageHolder holder, Map<String, String> headers, MessageCodec codec) {
+        this(holder, headers, codec, null);
+    }
+
+    /**
+     * Constructor with codec and content encoding of response.
+     * @param holder called message;
+     * @param headers headers of call entry;
+     * @param codec codec of call entry, response is sent with the same codec;
+     * @param encoding encoding of call entry or null, large response is compressed only if calling node sent compressed call;
+     */
+    public CorrelationCallback(MessageHolder holder, Map<String, String> headers, MessageCodec codec, ContentEncoding encoding) {
+        this.holder = holder;
+        this.codec = codec;
+        this.encoding = encoding;
+        this.address = headers.get(LocalHttpCons.L_HTTP_NODE_IP_HEADER);
+        this.port = Integer.parseInt(headers.get(LocalHttpCons.L_HTTP_REPLY_PORT_HEADER));
+        this.correlationId = headers.get(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER);
+    }
+
+    @Override
+    public void callback(ResponseHolder response) {
+        HttpMessageEntry entry = new HttpMessageEntry();
+        entry.initAsResponse(holder, response);
+        entry.getHeaders().put(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER, correlationId);
+        try {
+            sendResponse(entry);
+        } catch (Exception ex) {
+            LOGGER.error("Error during sending response {} for message {} to {} port {}", correlationId, holder.getTopic(), address, port);
+            LOGGER.error("Details:", ex);
+        }
+    }
+    
+    private void sendResponse(HttpMessageEntry entry) throws URISyntaxException, IOException {
+        HttpPost request = new HttpPost(new URI("http", null, address, port, LocalHttpCons.L_HTTP_RESPONSE_URL, null, null));
+        CompressionConfig compression = PayloadCompressor.getDefaultConfig();
+        if (encoding != null && compression != null) {
+            PayloadCompressor compressor = new PayloadCompressor(compression);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            codec.encode(entry, body);
+            ContentEncoding selected = compressor.select(body.size(), encoding.getName());
+            ByteArrayEntity requestEntity = new ByteArrayEntity(compressor.encode(body.toByteArray(), selected));
+            requestEntity.setContentType(codec.getContentType());
+            if (selected != null) {
+                requestEntity.setContentEncoding(selected.getName());
+            }
+            request.setEntity(requestEntity);
+        } else {
+            request.setEntity(new MessageCodecEntity(codec, entry));
+        }
+        try (CloseableHttpResponse response = BridgeHttpClient.getShared().getClient().execute(request)) {
+            EntityUtils.consume(response.getEntity());
+        }
+    }
+    
+}
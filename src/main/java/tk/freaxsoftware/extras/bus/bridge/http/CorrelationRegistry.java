@@ -0,0 +1,121 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.MessageIds;
+
+/**
+ * Registry of pending correlated calls. Calls are sent to remote node which accepts them immediately, 
+ * response is sent back to {@code L_HTTP_RESPONSE_URL} of this node and completes pending call by correlation id.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class CorrelationRegistry {
+    
+    private final static Logger LOGGER = LoggerFactory.getLogger(CorrelationRegistry.class);
+    
+    /**
+     * Default timeout in seconds of waiting for response.
+     */
+    public final static int DEFAULT_TIMEOUT = 60;
+    
+    private final static Map<String, CompletableFuture<HttpMessageEntry>> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * Port of this node server for responses, correlated mode is disabled if null.
+     */
+    private static volatile Integer replyPort;
+    
+    private static volatile int timeout = DEFAULT_TIMEOUT;
+    
+    /**
+     * Enables correlated calls.
+     * @param port port of this node server;
+     * @param timeoutSeconds timeout of waiting for response, default if null;
+     */
+    public static void enable(Integer port, Integer timeoutSeconds) {
+        LOGGER.info("Enable correlated calls with reply port {}", port);
+        timeout = timeoutSeconds != null ? timeoutSeconds : DEFAULT_TIMEOUT;
+        replyPort = port;
+    }
+    
+    /**
+     * Disables correlated calls, pending calls are still waiting for responses.
+     */
+    public static void disable() {
+        replyPort = null;
+    }
+    
+    public static Boolean isEnabled() {
+        return replyPort != null;
+    }
+    
+    public static Integer getReplyPort() {
+        return replyPort;
+    }
+    
+    public static int getTimeout() {
+        return timeout;
+    }
+    
+    /**
+     * Registers new pending call. Call is removed from registry on completion, cancellation or timeout.
+     * @param entry entry of the call, correlation headers will be added to it;
+     * @return future of response entry;
+     */
+    public static CompletableFuture<HttpMessageEntry> register(HttpMessageEntry entry) {
+        String correlationId = MessageIds.newId();
+        CompletableFuture<HttpMessageEntry> future = new CompletableFuture<>();
+        pending.put(correlationId, future);
+        future.orTimeout(timeout, TimeUnit.SECONDS).whenComplete((response, ex) -> pending.remove(correlationId, future));
+        entry.getHeaders().put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.CORRELATED.name());
+        entry.getHeaders().put(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER, correlationId);
+        entry.getHeaders().put(LocalHttpCons.L_HTTP_REPLY_PORT_HEADER, String.valueOf(replyPort));
+        return future;
+    }
+    
+    /**
+     * Completes pending call by response.
+     * @param response response entry with correlation id header;
+     * @return true if call was pending / false if call is unknown, timed out or cancelled;
+     */
+    public static Boolean complete(HttpMessageEntry response) {
+        String correlationId = (String) response.getHeaders().remove(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER);
+        CompletableFuture<HttpMessageEntry> future = correlationId != null ? pending.remove(correlationId) : null;
+        if (future == null) {
+            LOGGER.warn("Response {} on topic {} has no pending call, skipping;", correlationId, response.getTopic());
+            return false;
+        }
+        return future.complete(response);
+    }
+    
+    /**
+     * Get amount of calls which are waiting for responses.
+     * @return amount of pending calls;
+     */
+    public static int getPendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Queue of deliveries to single node which caller doesn't wait for. Amount of simultaneous exchanges 
+ * is limited by connections per node, other deliveries wait in queue without holding any thread. 
+ * Caller is blocked only if node already has max amount of pending deliveries.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class DeliveryQueue {
+    
+    private final Semaphore pendingPermits;
+    
+    private final int maxPending;
+    
+    private final int maxActive;
+    
+    private final AtomicInteger active = new AtomicInteger();
+    
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Thread is already starting deliveries, so completions of already completed deliveries 
+     * don't start next deliveries recursively.
+     */
+    private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Default constructor.
+     * @param maxPending max amount of pending deliveries;
+     * @param maxActive max amount of simultaneous exchanges;
+     */
+    public DeliveryQueue(int maxPending, int maxActive) {
+        this.pendingPermits = new Semaphore(maxPending);
+        this.maxPending = maxPending;
+        this.maxActive = maxActive;
+    }
+    
+    /**
+     * Adds delivery to queue, it's started immediately if there is free exchange.
+     * @param delivery starts async delivery;
+     * @param onError handler of delivery error;
+     * @throws InterruptedException if waiting for pending deliveries was interrupted;
+     */
+    public void submit(Supplier<CompletableFuture<Void>> delivery, Consumer<Throwable> onError) throws InterruptedException {
+        pendingPermits.acquire();
+        waiting.add(() -> {
+            CompletableFuture<Void> future;
+            try {
+                future = delivery.get();
+            } catch (RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+            future.whenComplete((ignored, ex) -> {
+                active.decrementAndGet();
+                pendingPermits.release();
+                if (ex != null) {
+                    onError.accept(ex);
+                }
+                drain();
+            });
+        });
+        drain();
+    }
+    
+    /**
+     * Get amount of deliveries which are started or waiting in queue.
+     * @return amount of pending deliveries;
+     */
+    public int getPendingCount() {
+        return maxPending - pendingPermits.availablePermits();
+    }
+    
+    /**
+     * Get amount of started deliveries.
+     * @return amount of exchanges in progress;
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+    
+    /**
+     * Starts waiting deliveries while there are free exchanges. Nested call from completion of delivery 
+     * returns immediately, outer call starts next deliveries in the same loop.
+     */
+    private void drain() {
+        if (draining.get()) {
+            return;
+        }
+        draining.set(Boolean.TRUE);
+        try {
+            drainLoop();
+        } finally {
+            draining.set(Boolean.FALSE);
+        }
+    }
+    
+    private void drainLoop() {
+        while (!waiting.isEmpty()) {
+            int current = active.get();
+            if (current >= maxActive) {
+                return;
+            }
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = waiting.poll();
+            if (next == null) {
+                active.decrementAndGet();
+            } else {
+                next.run();
+            }
+        }
+    }
+}
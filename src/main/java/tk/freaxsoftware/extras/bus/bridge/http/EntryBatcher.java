@@ -0,0 +1,201 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import tk.freaxsoftware.extras.bus.config.http.BatchConfig;
+
+/**
+ * Outbound batcher of message entries for single node. Coalesces entries into batch 
+ * which is sent when it reaches max size or when linger time expires.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class EntryBatcher {
+    
+    /**
+     * Default max amount of entries in batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    
+    /**
+     * Default linger time in milliseconds.
+     */
+    public static final int DEFAULT_LINGER_MILLIS = 5;
+    
+    /**
+     * Scheduler of linger timeouts shared by all batchers.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "messagebus-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * Batching config of senders without own config.
+     */
+    private static volatile BatchConfig defaultConfig;
+    
+    /**
+     * Max amount of entries in batch.
+     */
+    private final int maxBatchSize;
+    
+    /**
+     * Linger time in milliseconds.
+     */
+    private final long lingerMillis;
+    
+    /**
+     * Sends batch and returns future of delivery.
+     */
+    private final Function<List<HttpMessageEntry>, CompletableFuture<Void>> sender;
+    
+    /**
+     * Entries of current batch, guarded by this.
+     */
+    private List<HttpMessageEntry> entries;
+    
+    /**
+     * Future of current batch, guarded by this.
+     */
+    private CompletableFuture<Void> delivery;
+    
+    /**
+     * Linger task of current batch, guarded by this.
+     */
+    private ScheduledFuture<?> lingerTask;
+
+    /**
+     * Default constructor.
+     * @param config batching config;
+     * @param sender sends batch and returns future of delivery;
+     */
+    public EntryBatcher(BatchConfig config, Function<List<HttpMessageEntry>, CompletableFuture<Void>> sender) {
+        this.maxBatchSize = config.getMaxBatchSize() != null ? config.getMaxBatchSize() : DEFAULT_MAX_BATCH_SIZE;
+        this.lingerMillis = config.getLingerMillis() != null ? config.getLingerMillis() : DEFAULT_LINGER_MILLIS;
+        this.sender = sender;
+    }
+    
+    /**
+     * Add entry to current batch.
+     * @param entry message entry;
+     * @return future of batch delivery;
+     */
+    public CompletableFuture<Void> add(HttpMessageEntry entry) {
+        List<HttpMessageEntry> full = null;
+        CompletableFuture<Void> fullDelivery = null;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            if (entries == null) {
+                entries = new ArrayList<>(Math.min(maxBatchSize, DEFAULT_MAX_BATCH_SIZE));
+                delivery = new CompletableFuture<>();
+                if (maxBatchSize > 1) {
+                    lingerTask = SCHEDULER.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            entries.add(entry);
+            result = delivery;
+            if (entries.size() >= maxBatchSize) {
+                full = entries;
+                fullDelivery = delivery;
+                reset();
+            }
+        }
+        if (full != null) {
+            send(full, fullDelivery);
+        }
+        return result;
+    }
+    
+    /**
+     * Send current batch without waiting for linger time.
+     */
+    public void flush() {
+        List<HttpMessageEntry> batch;
+        CompletableFuture<Void> batchDelivery;
+        synchronized (this) {
+            if (entries == null) {
+                return;
+            }
+            batch = entries;
+            batchDelivery = delivery;
+            reset();
+        }
+        send(batch, batchDelivery);
+    }
+    
+    /**
+     * Get amount of entries waiting in current batch.
+     * @return amount of entries;
+     */
+    public synchronized int getPendingCount() {
+        return entries != null ? entries.size() : 0;
+    }
+    
+    private void reset() {
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+        }
+        entries = null;
+        delivery = null;
+        lingerTask = null;
+    }
+    
+    private void send(List<HttpMessageEntry> batch, CompletableFuture<Void> batchDelivery) {
+        CompletableFuture<Void> sending;
+        try {
+            sending = sender.apply(batch);
+        } catch (RuntimeException ex) {
+            batchDelivery.completeExceptionally(ex);
+            return;
+        }
+        sending.whenComplete((result, ex) -> {
+            if (ex != null) {
+                batchDelivery.completeExceptionally(ex);
+            } else {
+                batchDelivery.complete(null);
+            }
+        });
+    }
+    
+    /**
+     * Set batching config of senders without own config.
+     * @param config batching config or null to disable batching;
+     */
+    public static void setDefaultConfig(BatchConfig config) {
+        defaultConfig = config;
+    }
+    
+    /**
+     * Get batching config of senders without own config.
+     * @return batching config or null if batching disabled;
+     */
+    public static BatchConfig getDefaultConfig() {
+        return defaultConfig;
+    }
+}
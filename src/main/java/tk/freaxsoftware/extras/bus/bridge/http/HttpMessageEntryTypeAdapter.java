@@ -0,0 +1,209 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+
+/**
+ * Streaming type adapter of message entry. Entry is written field by field without intermediate tree, 
+ * type names are written before content, so reader binds content directly from the stream. 
+ * Content which comes before type names is buffered as tree.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class HttpMessageEntryTypeAdapter extends TypeAdapter<HttpMessageEntry> {
+    
+    /**
+     * Factory of adapter for gson builder.
+     */
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            return HttpMessageEntry.class.isAssignableFrom(type.getRawType()) 
+                    ? (TypeAdapter<T>) new HttpMessageEntryTypeAdapter(gson) : null;
+        }
+    };
+    
+    /**
+     * Cache of content adapters.
+     */
+    private final ContentAdapterCache adapters;
+
+    public HttpMessageEntryTypeAdapter(Gson gson) {
+        this.adapters = new ContentAdapterCache(gson);
+    }
+
+    @Override
+    public void write(JsonWriter out, HttpMessageEntry entry) throws IOException {
+        if (entry == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        writeString(out, "id", entry.getId());
+        writeString(out, "trxId", entry.getTrxId());
+        writeString(out, "created", entry.getCreated() != null ? entry.getCreated().toString() : null);
+        writeString(out, "updated", entry.getUpdated() != null ? entry.getUpdated().toString() : null);
+        writeString(out, "status", entry.getStatus() != null ? entry.getStatus().name() : null);
+        writeString(out, "topic", entry.getTopic());
+        Map<String, String> headers = entry.getHeaders();
+        if (headers != null) {
+            out.name("headers").beginObject();
+            for (Map.Entry<String, String> header: headers.entrySet()) {
+                if (header.getValue() != null) {
+                    out.name(header.getKey()).value(header.getValue());
+                }
+            }
+            out.endObject();
+        }
+        writeString(out, "fullTypeName", entry.getFullTypeName());
+        writeString(out, "typeName", entry.getTypeName());
+        Object content = entry.getContent();
+        if (content != null) {
+            out.name("content");
+            adapters.getAdapter(content.getClass()).write(out, content);
+        }
+        out.endObject();
+    }
+
+    @Override
+    public HttpMessageEntry read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String id = null;
+        String trxId = null;
+        ZonedDateTime created = null;
+        ZonedDateTime updated = null;
+        MessageStatus status = null;
+        String topic = null;
+        Map<String, String> headers = new HashMap<>();
+        String fullTypeName = null;
+        String typeName = null;
+        Object content = null;
+        JsonElement bufferedContent = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "id":
+                    id = in.nextString();
+                    break;
+                case "trxId":
+                    trxId = in.nextString();
+                    break;
+                case "created":
+                    created = ZonedDateTime.parse(in.nextString());
+                    break;
+                case "updated":
+                    updated = ZonedDateTime.parse(in.nextString());
+                    break;
+                case "status":
+                    status = MessageStatus.valueOf(in.nextString());
+                    break;
+                case "topic":
+                    topic = in.nextString();
+                    break;
+                case "headers":
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String header = in.nextName();
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                        } else {
+                            headers.put(header, in.nextString());
+                        }
+                    }
+                    in.endObject();
+                    break;
+                case "fullTypeName":
+                    fullTypeName = in.nextString();
+                    break;
+                case "typeName":
+                    typeName = in.nextString();
+                    break;
+                case "content":
+                    if (typeName != null || fullTypeName != null) {
+                        TypeAdapter<Object> contentAdapter = determineAdapter(typeName, fullTypeName);
+                        if (contentAdapter != null) {
+                            content = contentAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                    } else {
+                        bufferedContent = JsonParser.parseReader(in);
+                    }
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        if (bufferedContent != null) {
+            TypeAdapter<Object> contentAdapter = determineAdapter(typeName, fullTypeName);
+            if (contentAdapter != null) {
+                content = contentAdapter.fromJsonTree(bufferedContent);
+            }
+        }
+        if (typeName != null) {
+            headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, typeName);
+        }
+        return new HttpMessageEntry(id, trxId, created, updated, status, topic, headers, content);
+    }
+    
+    /**
+     * Determines adapter of content by registered type name or by full class name.
+     * @param typeName name of registered type or null;
+     * @param fullTypeName full class name or null;
+     * @return adapter of content or null if entry has no type;
+     * @throws JsonParseException if content class not found;
+     */
+    private TypeAdapter<Object> determineAdapter(String typeName, String fullTypeName) {
+        try {
+            return adapters.getAdapter(typeName, fullTypeName);
+        } catch (ClassNotFoundException ex) {
+            throw new JsonParseException(ex);
+        }
+    }
+    
+    private void writeString(JsonWriter out, String name, String value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+}
@@ -20,18 +20,25 @@ package tk.freaxsoftware.extras.bus.bridge.http;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
-import java.time.ZonedDateTime;
-import java.util.Map;
-import tk.freaxsoftware.extras.bus.MessageStatus;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.List;
 import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
 
 /**
- * Http message entries factory. Used for deserialization.
+ * Http message entries factory. Used for serialization and deserialization.
  * @author Stanislav Nepochatov
  */
 public class HttpMessageEntryUtil {
     
+    /**
+     * Type of entries batch.
+     */
+    private static final Type BATCH_TYPE = new TypeToken<List<HttpMessageEntry>>() {}.getType();
+    
     private final Gson gson = GsonUtils.getGson();
     
     /**
@@ -40,34 +47,68 @@ public class HttpMessageEntryUtil {
      * @return parsed http message entry;
      */
     public HttpMessageEntry deserialize(JsonObject object) throws ClassNotFoundException {
-        String id = object.get("id").getAsString();
-        String trxId = object.get("trxId").getAsString();
-        String topic = object.get("topic").getAsString();
-        ZonedDateTime created = ZonedDateTime.parse(object.get("created").getAsString());
-        ZonedDateTime updated = object.has("updated") ? ZonedDateTime.parse(object.get("updated").getAsString()) : null;
-        MessageStatus status = MessageStatus.valueOf(object.get("status").getAsString());
-        Map<String, String> headers = gson.fromJson(object.get("headers"), new TypeToken<Map<String, String>>(){}.getType());
-        HttpMessageEntry entry;
-        TypeToken contentType = determineType(object);
-        if (object.has("typeName")) {
-            headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, object.get("typeName").getAsString());
+        try {
+            return gson.fromJson(object, HttpMessageEntry.class);
+        } catch (JsonParseException ex) {
+            throw unwrap(ex);
         }
-        if (contentType != null) {
-            Object content = gson.fromJson(object.get("content"), contentType.getType());
-            entry = new HttpMessageEntry(id, trxId, created, updated, status, topic, headers, content);
-        } else {
-            entry = new HttpMessageEntry(id, trxId, created, updated, status, topic, headers, null);
+    }
+    
+    /**
+     * Deserialize message entry from the stream without building of json tree.
+     * @param reader reader of json;
+     * @return parsed http message entry;
+     * @throws ClassNotFoundException if content class not found;
+     * @since 6.1
+     */
+    public HttpMessageEntry deserialize(Reader reader) throws ClassNotFoundException {
+        try {
+            return gson.fromJson(reader, HttpMessageEntry.class);
+        } catch (JsonParseException ex) {
+            throw unwrap(ex);
         }
-        return entry;
     }
     
-    private TypeToken determineType(JsonObject object) throws ClassNotFoundException {
-        if (object.has("typeName") && TypeResolver.isTypeRegistered(object.get("typeName").getAsString())) {
-            return TypeResolver.resolveType(object.get("typeName").getAsString());
-        } else if (object.has("fullTypeName")) {
-            return TypeToken.get(Class.forName(object.get("fullTypeName").getAsString()));
+    /**
+     * Serialize message entry directly to the stream.
+     * @param entry message entry;
+     * @param writer writer of json;
+     * @since 6.1
+     */
+    public void serialize(HttpMessageEntry entry, Writer writer) {
+        gson.toJson(entry, HttpMessageEntry.class, writer);
+    }
+    
+    /**
+     * Deserialize batch of message entries from the stream.
+     * @param reader reader of json array;
+     * @return parsed http message entries;
+     * @throws ClassNotFoundException if content class not found;
+     * @since 6.1
+     */
+    public List<HttpMessageEntry> deserializeBatch(Reader reader) throws ClassNotFoundException {
+        try {
+            return gson.fromJson(reader, BATCH_TYPE);
+        } catch (JsonParseException ex) {
+            throw unwrap(ex);
+        }
+    }
+    
+    /**
+     * Serialize batch of message entries directly to the stream as json array.
+     * @param entries message entries;
+     * @param writer writer of json;
+     * @since 6.1
+     */
+    public void serializeBatch(List<HttpMessageEntry> entries, Writer writer) {
+        gson.toJson(entries, BATCH_TYPE, writer);
+    }
+    
+    private ClassNotFoundException unwrap(JsonParseException ex) {
+        if (ex.getCause() instanceof ClassNotFoundException) {
+            return (ClassNotFoundException) ex.getCause();
         }
-        return null;
+        throw ex;
     }
     
 }
@@ -38,6 +38,36 @@ public class LocalHttpCons {
      */
     protected static final String L_HTTP_SYNC_URL = "/broker/sync";
     
+    /**
+     * Url for listening on responses of correlated calls.
+     */
+    protected static final String L_HTTP_RESPONSE_URL = "/broker/response";
+    
+    /**
+     * URL for batches of async and broadcast messages.
+     */
+    protected static final String L_HTTP_BATCH_URL = "/broker/batch";
+    
+    /**
+     * URL of persistent WebSocket channel between nodes.
+     */
+    protected static final String L_HTTP_CHANNEL_URL = "/broker/channel";
+    
+    /**
+     * Query parameter of channel URL with port of connecting node server.
+     */
+    protected static final String L_HTTP_CHANNEL_PORT_PARAM = "port";
+    
+    /**
+     * Query parameter of channel URL with wire format of frames sent by server node.
+     */
+    protected static final String L_HTTP_CHANNEL_FORMAT_PARAM = "wireFormat";
+    
+    /**
+     * Url for metrics snapshot.
+     */
+    protected static final String L_HTTP_METRICS_URL = "/broker/metrics";
+    
     /**
      * Message notification of subscription over HTTP.
      */
@@ -108,6 +138,31 @@ public class LocalHttpCons {
      */
     public static final String L_HTTP_NODE_REGISTERED_TYPE_HEADER = "Local.Http.Header.RegisteredType";
     
+    /**
+     * Local HTTP header with correlation id of call.
+     */
+    public static final String L_HTTP_CORRELATION_ID_HEADER = "Local.Http.Header.CorrelationId";
+    
+    /**
+     * Local HTTP header with port of node which waits for response of correlated call.
+     */
+    public static final String L_HTTP_REPLY_PORT_HEADER = "Local.Http.Header.ReplyPort";
+    
+    /**
+     * Local HTTP header with id of call sent over channel.
+     */
+    public static final String L_HTTP_CHANNEL_CALL_HEADER = "Local.Http.Header.ChannelCall";
+    
+    /**
+     * Local HTTP header with id of call which is answered by response sent over channel.
+     */
+    public static final String L_HTTP_CHANNEL_REPLY_HEADER = "Local.Http.Header.ChannelReply";
+    
+    /**
+     * Local HTTP header with error of call sent over channel.
+     */
+    public static final String L_HTTP_CHANNEL_ERROR_HEADER = "Local.Http.Header.ChannelError";
+    
     /**
      * Enum for HTTP bridging mode.
      */
@@ -126,7 +181,12 @@ public class LocalHttpCons {
         /**
          * Async, broadcast without callback.
          */
-        BROADCAST;
+        BROADCAST,
+        
+        /**
+         * Async, single with callback sent back by separate request with correlation id.
+         */
+        CORRELATED;
     }
     
 }
@@ -21,16 +21,19 @@ package tk.freaxsoftware.extras.bus.bridge.http;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.AsyncReceiver;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageBus;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageOptions;
 import tk.freaxsoftware.extras.bus.MessageStatus;
-import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.NamedReceiver;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
 import tk.freaxsoftware.extras.bus.config.http.ClientConfig;
 import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
 
@@ -38,7 +41,7 @@ import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
  * Message http client class and receiver. Used by message bus for sending to server node from recipient node.
  * @author Stanislav Nepochatov
  */
-public class MessageClientSender extends AbstractHttpSender implements Receiver {
+public class MessageClientSender extends AbstractHttpSender implements AsyncReceiver, NamedReceiver {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageClientSender.class);
     
@@ -52,20 +55,41 @@ public class MessageClientSender extends AbstractHttpSender implements Receiver
      */
     private final ServerConfig serverConfig;
     
+    /**
+     * Name of sender for metrics.
+     */
+    private final String name;
+    
     private final Set<String> subscriptions = Collections.synchronizedSet(new HashSet());
     
     private ExecutorService threadService = Executors.newSingleThreadExecutor();
     
+    /**
+     * Persistent channel to server node, null if messages are sent only by HTTP.
+     */
+    private final ClientChannel channel;
+    
     /**
      * Default constructor.
      * @param serverConfig instance of server config;
      * @param config instance of client config;
      */
     public MessageClientSender(ServerConfig serverConfig, ClientConfig config) {
+        super(config.getConnection() != null ? new BridgeHttpClient(config.getConnection()) : null, config.getWireFormat(), config.getBatching(), config.getCompression());
         this.serverConfig = serverConfig;
         this.config = config;
+        this.name = getClass().getName() + "@" + config.getAddress() + ":" + config.getPort();
         LOGGER.info(String.format("Init connection to node %s on port %d", config.getAddress(), config.getPort()));
         
+        if (config.getTransport() == Transport.WEBSOCKET) {
+            LOGGER.info("Init channel to node {} on port {}", config.getAddress(), config.getPort());
+            channel = new ClientChannel(config.getAddress(), config.getPort(), serverConfig.getHttpPort(), 
+                    config.getWireFormat() != null ? config.getWireFormat() : WireFormat.JSON, getHttpClient());
+            channel.connect();
+        } else {
+            channel = null;
+        }
+        
         if (config.getHeartbeatRate() != null && config.getHeartbeatRate() > 0) {
             LOGGER.info(String.format("Init heartbeat %d", config.getHeartbeatRate()));
             threadService.submit(new Runnable() {
@@ -89,15 +113,38 @@ public class MessageClientSender extends AbstractHttpSender implements Receiver
     }
 
     @Override
-    public synchronized void receive(MessageHolder message) throws Exception {
+    public void receive(MessageHolder message) throws Exception {
         // Ignore itself.
         if (message.getContent() == this) {
             return;
         }
+        if (isDetached(message)) {
+            detach(message, () -> receiveAsync(message));
+            return;
+        }
         HttpMessageEntry entry = new HttpMessageEntry(message);
-        setupEntry(message, entry);
-        LOGGER.debug(String.format("Sending message %s to node %s on port %d", message.getTopic(), config.getAddress(), config.getPort()));
-        HttpMessageEntry response = sendEntry(config.getAddress(), config.getPort(), entry);
+        synchronized (this) {
+            setupEntry(message, entry);
+        }
+        LOGGER.debug("Sending message {} to node {} on port {}", message.getTopic(), config.getAddress(), config.getPort());
+        applyResponse(message, sendEntry(config.getAddress(), config.getPort(), entry, isNotification(message)));
+    }
+
+    @Override
+    public CompletableFuture<Void> receiveAsync(MessageHolder message) {
+        if (message.getContent() == this) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpMessageEntry entry = new HttpMessageEntry(message);
+        synchronized (this) {
+            setupEntry(message, entry);
+        }
+        LOGGER.debug("Sending message {} to node {} on port {}", message.getTopic(), config.getAddress(), config.getPort());
+        CompletableFuture<HttpMessageEntry> sending = sendEntryAsync(config.getAddress(), config.getPort(), entry);
+        return linkCancellation(sending, sending.thenAccept(response -> applyResponse(message, response)));
+    }
+    
+    private void applyResponse(MessageHolder message, HttpMessageEntry response) {
         if (response != null) {
             message.getResponse().setHeaders(response.getHeaders());
             message.getResponse().setContent(response.getContent());
@@ -134,4 +181,18 @@ public class MessageClientSender extends AbstractHttpSender implements Receiver
             entry.getHeaders().put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.ASYNC.name());
         }
     }
+    
+    /**
+     * Get persistent channel to server node.
+     * @return channel or null if messages are sent only by HTTP;
+     * @since 6.1
+     */
+    public ClientChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
 }
@@ -25,21 +25,23 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.AsyncReceiver;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageStatus;
-import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.NamedReceiver;
 
 /**
  * Message http messaging sender and receiver. Used for send messages from server node to subscribers.
  * @author Stanislav Nepochatov
  */
-public class MessagePeerSender extends AbstractHttpSender implements Receiver {
+public class MessagePeerSender extends AbstractHttpSender implements AsyncReceiver, NamedReceiver {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(MessagePeerSender.class);
     
@@ -63,6 +65,11 @@ public class MessagePeerSender extends AbstractHttpSender implements Receiver {
      */
     protected final Set<String> subscriptions;
     
+    /**
+     * Name of sender for metrics.
+     */
+    private final String name;
+    
     /**
      * Local date of the last heartbeat of the node.
      */
@@ -81,6 +88,7 @@ public class MessagePeerSender extends AbstractHttpSender implements Receiver {
     public MessagePeerSender(String address, Integer port) {
         this.address = address;
         this.port = port;
+        this.name = getClass().getName() + "@" + address + ":" + port;
         this.subscriptions = Collections.synchronizedSet(new HashSet());
         this.beat = LocalDateTime.now();
         this.beatLock = new ReentrantLock();
@@ -159,22 +167,52 @@ public class MessagePeerSender extends AbstractHttpSender implements Receiver {
 
     @Override
     public void receive(MessageHolder message) throws Exception {
+        if (isDetached(message)) {
+            detach(message, () -> receiveAsync(message));
+            return;
+        }
+        HttpMessageEntry entry = buildEntry(message);
+        if (entry != null) {
+            applyResponse(message, sendEntry(address, port, entry, isNotification(message)));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> receiveAsync(MessageHolder message) {
+        HttpMessageEntry entry = buildEntry(message);
+        if (entry == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<HttpMessageEntry> sending = sendEntryAsync(address, port, entry);
+        return linkCancellation(sending, sending.thenAccept(response -> applyResponse(message, response)));
+    }
+    
+    /**
+     * Builds entry to send if message should be delivered to the node.
+     * @param message message holder;
+     * @return entry to send or null if node is not subscribed or it's source of message;
+     */
+    private HttpMessageEntry buildEntry(MessageHolder message) {
         if (subscriptions.contains(message.getTopic())
                 && !(Objects.equals(message.getHeaders().get(LocalHttpCons.L_HTTP_NODE_IP_HEADER), this.address) 
                 && Objects.equals(message.getHeaders().get(LocalHttpCons.L_HTTP_NODE_PORT_HEADER), this.port))) {
-            LOGGER.debug(String.format("Sending message %s to subscriber node %s on port %d", message.getTopic(), address, port));
+            LOGGER.debug("Sending message {} to subscriber node {} on port {}", message.getTopic(), address, port);
             HttpMessageEntry entry = new HttpMessageEntry(message);
             if (entry.getTopic().startsWith(LocalHttpCons.L_HTTP_CROSS_NODE_UP_TOPIC)) {
                 entry.setTopic(LocalHttpCons.L_HTTP_CROSS_NODE_UP_TOPIC);
             }
             setupMessageMode(message, entry);
-            HttpMessageEntry response = sendEntry(address, port, entry);
-            if (response != null) {
-                message.getResponse().setContent(response.getContent());
-                message.getResponse().setHeaders(response.getHeaders());
-            } else if (message.getHeaders().containsKey(LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER)) {
-                message.setStatus(MessageStatus.REMOTE_PROCESSING);
-            }
+            return entry;
+        }
+        return null;
+    }
+    
+    private void applyResponse(MessageHolder message, HttpMessageEntry response) {
+        if (response != null) {
+            message.getResponse().setContent(response.getContent());
+            message.getResponse().setHeaders(response.getHeaders());
+        } else if (message.getHeaders().containsKey(LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER)) {
+            message.setStatus(MessageStatus.REMOTE_PROCESSING);
         }
     }
 
@@ -185,5 +223,10 @@ public class MessagePeerSender extends AbstractHttpSender implements Receiver {
     public Integer getPort() {
         return port;
     }
+
+    @Override
+    public String getName() {
+        return name;
+    }
     
 }
@@ -18,10 +18,18 @@
  */
 package tk.freaxsoftware.extras.bus.bridge.http;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import io.javalin.Javalin;
+import io.javalin.compression.CompressionStrategy;
+import io.javalin.compression.Gzip;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.MessageBus;
@@ -30,6 +38,12 @@ import tk.freaxsoftware.extras.bus.MessageContextHolder;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageOptions;
 import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecs;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.PayloadTooLargeException;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.StringSetCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
 import tk.freaxsoftware.extras.bus.bridge.http.util.GsonMapper;
 import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
 import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
@@ -44,9 +58,9 @@ public class MessageServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageServer.class);
     
     /**
-     * Message util.
+     * Open channels of client nodes by WebSocket session id.
      */
-    private final HttpMessageEntryUtil messageUtil = new HttpMessageEntryUtil();
+    private final Map<String, ServerChannel> channels = new ConcurrentHashMap<>();
     
     /**
      * Deploy spark endpoint for message listening. It will config spark if config not nested.
@@ -57,13 +71,38 @@ public class MessageServer {
         LOGGER.info(String.format("Deploying new HTTP server on port %d", config.getHttpPort()));
         Javalin app = Javalin.create(javalinConfig -> {
             javalinConfig.jsonMapper(new GsonMapper());
+            if (config.getCompression() != null) {
+                CompressionStrategy compression = new CompressionStrategy(null, new Gzip());
+                compression.setDefaultMinSizeForCompression(new PayloadCompressor(config.getCompression()).getThreshold());
+                javalinConfig.http.customCompression(compression);
+            }
         }).start(config.getHttpPort());
         
-        TypeResolver.register(LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_TOKEN);
+        if (Boolean.TRUE.equals(config.getCorrelatedCalls())) {
+            CorrelationRegistry.enable(config.getHttpPort(), config.getCorrelationTimeout());
+        }
+        
+        MessageCodecs.setPreferred(config.getWireFormat());
+        EntryBatcher.setDefaultConfig(config.getBatching());
+        PayloadCompressor.setDefaultConfig(config.getCompression());
+        TypeResolver.register(LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_TOKEN, new StringSetCodec());
+        
+        app.exception(Exception.class, (ex, ctx) -> {
+            MessageContextHolder.clearContext();
+            if (PayloadTooLargeException.isCause(ex)) {
+                LOGGER.warn("Reject message from {}: {}", ctx.ip(), ex.getMessage());
+                ctx.status(413);
+            } else {
+                LOGGER.error(String.format("Error on request %s", ctx.path()), ex);
+                ctx.status(500);
+            }
+        });
         
         app.post(LocalHttpCons.L_HTTP_URL, ctx -> {
-            JsonObject bodyJson = new JsonParser().parse(ctx.body()).getAsJsonObject();
-            HttpMessageEntry entry = messageUtil.deserialize(bodyJson);
+            MessageCodec codec = MessageCodecs.forContentType(ctx.contentType());
+            HttpMessageEntry entry = codec.decode(ContentEncoding.decode(ctx.header(ContentEncoding.CONTENT_ENCODING_HEADER), ctx.bodyInputStream(), PayloadCompressor.getMaxDecodedSize()));
+            ctx.header(MessageCodecs.ACCEPT_POST_HEADER, MessageCodecs.ACCEPTED_TYPES);
+            ctx.header(ContentEncoding.ACCEPT_ENCODING_HEADER, ContentEncoding.ACCEPTED_ENCODINGS);
             MessageContextHolder.setContext(new MessageContext(entry.getTrxId()));
             entry.getHeaders().put(LocalHttpCons.L_HTTP_NODE_IP_HEADER, ctx.ip());
             LocalHttpCons.Mode mode = LocalHttpCons.Mode.valueOf((String) entry.getHeaders().getOrDefault(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.ASYNC.name()));
@@ -71,34 +110,63 @@ public class MessageServer {
             MessageOptions options;
             MessageHolder holder = entry.toMessageHolder();
             switch (mode) {
-                case BROADCAST:
-                    options = MessageOptions.Builder.newInstance().deliveryNotification().broadcast().headers(entry.getHeaders()).build();
-                    holder.setRedeliveryCounter(options.getRedeliveryCounter());
-                    break;
                 case CALLBACK:
                     options = MessageOptions.Builder.newInstance().deliveryCall().headers(entry.getHeaders()).callback((messageResponse) -> {
                         response.initAsResponse(holder, messageResponse);
                     }).build();
                     break;
-                default:
-                    if (entry.getHeaders().containsKey(LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER)) {
-                        options = MessageOptions.Builder.newInstance().async().headers(entry.getHeaders()).callback(new SyncCallback(entry.getHeaders(), entry.getId())).build();
-                    } else {
-                        options = MessageOptions.Builder.newInstance().async().headers(entry.getHeaders()).build();
+                case CORRELATED:
+                    if (!MessageBus.isSubscribed(holder.getTopic())) {
+                        ctx.status(404);
+                        MessageContextHolder.clearContext();
+                        return;
                     }
+                    options = MessageOptions.Builder.newInstance().deliveryCall().async().headers(entry.getHeaders())
+                            .callback(new CorrelationCallback(holder, entry.getHeaders(), codec, 
+                                    ContentEncoding.forName(ctx.header(ContentEncoding.CONTENT_ENCODING_HEADER)))).build();
+                    break;
+                default:
+                    options = buildAsyncOptions(mode, entry, holder);
             }
             holder.setOptions(options);
             MessageBus.fire(holder);
             if (response.getTopic() != null) {
-                ctx.json(response);
+                ctx.contentType(codec.getContentType());
+                codec.encode(response, ctx.outputStream());
+            } else if (mode == LocalHttpCons.Mode.CORRELATED) {
+                ctx.status(202);
             } else {
                 ctx.status(200);
             }
             MessageContextHolder.clearContext();
         });
         
+        app.post(LocalHttpCons.L_HTTP_BATCH_URL, ctx -> {
+            MessageCodec codec = MessageCodecs.forContentType(ctx.contentType());
+            List<HttpMessageEntry> entries = codec.decodeBatch(ContentEncoding.decode(ctx.header(ContentEncoding.CONTENT_ENCODING_HEADER), ctx.bodyInputStream(), PayloadCompressor.getMaxDecodedSize()));
+            ctx.header(MessageCodecs.ACCEPT_POST_HEADER, MessageCodecs.ACCEPTED_TYPES);
+            ctx.header(ContentEncoding.ACCEPT_ENCODING_HEADER, ContentEncoding.ACCEPTED_ENCODINGS);
+            for (HttpMessageEntry entry: entries) {
+                MessageContextHolder.setContext(new MessageContext(entry.getTrxId()));
+                try {
+                    entry.getHeaders().put(LocalHttpCons.L_HTTP_NODE_IP_HEADER, ctx.ip());
+                    LocalHttpCons.Mode mode = LocalHttpCons.Mode.valueOf((String) entry.getHeaders().getOrDefault(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.ASYNC.name()));
+                    if (mode != LocalHttpCons.Mode.ASYNC && mode != LocalHttpCons.Mode.BROADCAST) {
+                        LOGGER.warn("Skip message {} with mode {} in batch from {}", entry.getTopic(), mode, ctx.ip());
+                        continue;
+                    }
+                    MessageHolder holder = entry.toMessageHolder();
+                    holder.setOptions(buildAsyncOptions(mode, entry, holder));
+                    MessageBus.fire(holder);
+                } finally {
+                    MessageContextHolder.clearContext();
+                }
+            }
+            ctx.status(200);
+        });
+        
         app.post(LocalHttpCons.L_HTTP_SYNC_URL, ctx -> {
-            SyncCallEntry syncCall = GsonUtils.getGson().fromJson(ctx.body(), SyncCallEntry.class);
+            SyncCallEntry syncCall = GsonUtils.getGson().fromJson(new InputStreamReader(ctx.bodyInputStream(), StandardCharsets.UTF_8), SyncCallEntry.class);
             Optional<MessageHolder> messageOpt = interceptor.getStorage().getMessageById(syncCall.getUuid());
             messageOpt.ifPresent(mh -> {
                 mh.setStatus(syncCall.getStatus());
@@ -110,6 +178,71 @@ public class MessageServer {
             });
             ctx.status(200);
         });
+        
+        app.post(LocalHttpCons.L_HTTP_RESPONSE_URL, ctx -> {
+            CorrelationRegistry.complete(MessageCodecs.forContentType(ctx.contentType())
+                    .decode(ContentEncoding.decode(ctx.header(ContentEncoding.CONTENT_ENCODING_HEADER), ctx.bodyInputStream(), PayloadCompressor.getMaxDecodedSize())));
+            ctx.status(200);
+        });
+        
+        app.ws(LocalHttpCons.L_HTTP_CHANNEL_URL, ws -> {
+            ws.onConnect(ctx -> {
+                String nodePort = ctx.queryParam(LocalHttpCons.L_HTTP_CHANNEL_PORT_PARAM);
+                if (nodePort == null) {
+                    ctx.closeSession(1008, "Missing port of node server");
+                    return;
+                }
+                String address = ((InetSocketAddress) ctx.session.getRemoteAddress()).getAddress().getHostAddress();
+                WireFormat wireFormat = WireFormat.BINARY.name().equals(ctx.queryParam(LocalHttpCons.L_HTTP_CHANNEL_FORMAT_PARAM)) ? WireFormat.BINARY : WireFormat.JSON;
+                ServerChannel channel = new ServerChannel(ctx.session, address, Integer.valueOf(nodePort), wireFormat);
+                channels.put(ctx.sessionId(), channel);
+                ChannelRegistry.register(channel);
+                ctx.enableAutomaticPings(ServerChannel.PING_INTERVAL, TimeUnit.SECONDS);
+            });
+            ws.onMessage(ctx -> {
+                ServerChannel channel = channels.get(ctx.sessionId());
+                if (channel != null) {
+                    channel.receiveFrame(ctx.message().getBytes(StandardCharsets.UTF_8), false);
+                }
+            });
+            ws.onBinaryMessage(ctx -> {
+                ServerChannel channel = channels.get(ctx.sessionId());
+                if (channel != null) {
+                    channel.receiveFrame(Arrays.copyOfRange(ctx.data(), ctx.offset(), ctx.offset() + ctx.length()), true);
+                }
+            });
+            ws.onClose(ctx -> {
+                ServerChannel channel = channels.remove(ctx.sessionId());
+                if (channel != null) {
+                    channel.closed(null);
+                }
+            });
+            ws.onError(ctx -> {
+                LOGGER.warn("Error on channel of session {}: {}", ctx.sessionId(), String.valueOf(ctx.error()));
+            });
+        });
+        
+        app.get(LocalHttpCons.L_HTTP_METRICS_URL, ctx -> {
+            ctx.json(MessageBus.metrics());
+        });
+    }
+    
+    /**
+     * Build options of message received in async or broadcast mode.
+     * @param mode bridging mode;
+     * @param entry received entry;
+     * @param holder message holder of entry;
+     * @return message options;
+     */
+    static MessageOptions buildAsyncOptions(LocalHttpCons.Mode mode, HttpMessageEntry entry, MessageHolder holder) {
+        if (mode == LocalHttpCons.Mode.BROADCAST) {
+            MessageOptions options = MessageOptions.Builder.newInstance().deliveryNotification().broadcast().headers(entry.getHeaders()).build();
+            holder.setRedeliveryCounter(options.getRedeliveryCounter());
+            return options;
+        } else if (entry.getHeaders().containsKey(LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER)) {
+            return MessageOptions.Builder.newInstance().async().headers(entry.getHeaders()).callback(new SyncCallback(entry.getHeaders(), entry.getId())).build();
+        }
+        return MessageOptions.Builder.newInstance().async().headers(entry.getHeaders()).build();
     }
     
 }
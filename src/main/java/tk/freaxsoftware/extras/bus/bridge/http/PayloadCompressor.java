@@ -0,0 +1,128 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.io.IOException;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+import tk.freaxsoftware.extras.bus.config.http.CompressionConfig;
+
+/**
+ * Compressor of payloads sent by the bridge. Payload is compressed only if it isn't smaller than threshold 
+ * and peer accepts encoding, size of payloads and time of compression are recorded to message bus metrics.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class PayloadCompressor {
+    
+    /**
+     * Default min size in bytes of payload to compress.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+    
+    /**
+     * Default max size in bytes of decompressed payload.
+     */
+    public static final int DEFAULT_MAX_DECODED_SIZE = 64 * 1024 * 1024;
+    
+    /**
+     * Compression config of senders without own config.
+     */
+    private static volatile CompressionConfig defaultConfig;
+    
+    /**
+     * Encoding of compressed payloads.
+     */
+    private final ContentEncoding encoding;
+    
+    /**
+     * Min size of payload to compress.
+     */
+    private final int threshold;
+
+    /**
+     * Default constructor.
+     * @param config compression config;
+     */
+    public PayloadCompressor(CompressionConfig config) {
+        this.encoding = config.getEncoding() != null ? config.getEncoding() : ContentEncoding.GZIP;
+        this.threshold = config.getThreshold() != null ? config.getThreshold() : DEFAULT_THRESHOLD;
+    }
+    
+    /**
+     * Select encoding of payload.
+     * @param size size of plain payload;
+     * @param acceptedEncodings encodings accepted by peer or null;
+     * @return encoding or null if payload should be sent as is;
+     */
+    public ContentEncoding select(int size, String acceptedEncodings) {
+        return size >= threshold && ContentEncoding.isAccepted(encoding, acceptedEncodings) ? encoding : null;
+    }
+    
+    /**
+     * Encode payload and record its transfer.
+     * @param payload plain payload;
+     * @param selected encoding returned by {@link #select(int, String)} or null;
+     * @return payload to send;
+     * @throws IOException 
+     */
+    public byte[] encode(byte[] payload, ContentEncoding selected) throws IOException {
+        if (selected == null) {
+            MessageBus.getMetrics().transferred(ContentEncoding.IDENTITY, payload.length, payload.length, 0);
+            return payload;
+        }
+        long start = System.nanoTime();
+        byte[] compressed = selected.compress(payload);
+        MessageBus.getMetrics().transferred(selected.getName(), payload.length, compressed.length, System.nanoTime() - start);
+        return compressed;
+    }
+
+    public ContentEncoding getEncoding() {
+        return encoding;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+    
+    /**
+     * Set compression config of senders without own config.
+     * @param config compression config or null to disable compression;
+     */
+    public static void setDefaultConfig(CompressionConfig config) {
+        defaultConfig = config;
+    }
+    
+    /**
+     * Get compression config of senders without own config.
+     * @return compression config or null if compression disabled;
+     */
+    public static CompressionConfig getDefaultConfig() {
+        return defaultConfig;
+    }
+    
+    /**
+     * Get max size of decompressed payload accepted by node, limit is applied even if compression disabled.
+     * @return max size in bytes;
+     */
+    public static int getMaxDecodedSize() {
+        CompressionConfig config = defaultConfig;
+        return config != null && config.getMaxDecodedSize() != null ? config.getMaxDecodedSize() : DEFAULT_MAX_DECODED_SIZE;
+    }
+}
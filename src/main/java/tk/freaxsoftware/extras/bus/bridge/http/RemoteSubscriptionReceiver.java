@@ -100,7 +100,7 @@ public class RemoteSubscriptionReceiver implements Receiver {
         Integer nodePort = Integer.parseInt((String) message.getHeaders().get(LocalHttpCons.L_HTTP_NODE_PORT_HEADER));
         String nodeKey = nodeIp + ":" + nodePort;
         if (!Objects.equals(message.getTopic(), LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC)) {
-            LOGGER.info(String.format("Getting message %s from node %s on port %d", message.getTopic(), nodeIp, nodePort));
+            LOGGER.info("Getting message {} from node {} on port {}", message.getTopic(), nodeIp, nodePort);
         }
         switch (message.getTopic()) {
             case LocalHttpCons.L_HTTP_SUBSCRIBE_TOPIC:
@@ -0,0 +1,86 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
+/**
+ * Server side of channel, wraps WebSocket session opened by client node.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ServerChannel extends BridgeChannel {
+    
+    /**
+     * Interval in seconds of pings which keep idle connection open.
+     */
+    public static final int PING_INTERVAL = 15;
+    
+    private final Session session;
+
+    /**
+     * Default constructor.
+     * @param session WebSocket session of client node;
+     * @param address address of client node;
+     * @param port port of client node server;
+     * @param wireFormat wire format of sent frames;
+     */
+    public ServerChannel(Session session, String address, Integer port, WireFormat wireFormat) {
+        super(address, port, wireFormat);
+        this.session = session;
+    }
+
+    @Override
+    protected CompletableFuture<Void> writeFrame(byte[] frame, boolean binary) {
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        WriteCallback callback = new WriteCallback() {
+            
+            @Override
+            public void writeSuccess() {
+                write.complete(null);
+            }
+
+            @Override
+            public void writeFailed(Throwable ex) {
+                write.completeExceptionally(ex);
+            }
+        };
+        if (binary) {
+            session.getRemote().sendBytes(ByteBuffer.wrap(frame), callback);
+        } else {
+            session.getRemote().sendString(new String(frame, StandardCharsets.UTF_8), callback);
+        }
+        return write;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return session.isOpen();
+    }
+
+    @Override
+    public void close() {
+        session.close();
+    }
+}
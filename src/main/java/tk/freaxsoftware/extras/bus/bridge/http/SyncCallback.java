@@ -22,17 +22,16 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.Callback;
 import tk.freaxsoftware.extras.bus.MessageBus;
 import tk.freaxsoftware.extras.bus.MessageStatus;
 import tk.freaxsoftware.extras.bus.ResponseHolder;
-import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+import tk.freaxsoftware.extras.bus.bridge.http.util.GsonHttpEntity;
 
 /**
  * Special callback to sync state of message accros nodes.
@@ -47,11 +46,6 @@ public class SyncCallback implements Callback<Object> {
     private final int port;
     
     private final String id;
-    
-    /**
-     * Http client instance.
-     */
-    private final HttpClientBuilder clientBuilder = HttpClientBuilder.create();
 
     public SyncCallback(Map<String, Object> headers, String id) {
         this.address = (String) headers.get(LocalHttpCons.L_HTTP_NODE_IP_HEADER);
@@ -75,8 +69,10 @@ public class SyncCallback implements Callback<Object> {
     
     private void sendCallback(SyncCallEntry entry) throws URISyntaxException, IOException {
         HttpPost request = new HttpPost(new URI("http", null, address, port, LocalHttpCons.L_HTTP_SYNC_URL, null, null));
-        request.setEntity(new StringEntity(GsonUtils.getGson().toJson(entry), ContentType.APPLICATION_JSON));
-        clientBuilder.build().execute(request);
+        request.setEntity(new GsonHttpEntity(entry, SyncCallEntry.class));
+        try (CloseableHttpResponse response = BridgeHttpClient.getShared().getClient().execute(request)) {
+            EntityUtils.consume(response.getEntity());
+        }
     }
     
 }
@@ -19,10 +19,12 @@
 package tk.freaxsoftware.extras.bus.bridge.http;
 
 import com.google.gson.reflect.TypeToken;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentCodec;
 
 /**
  * Type resover holds user defined types of data and token to help in it's deserialization.
@@ -34,15 +36,48 @@ public class TypeResolver {
     
     private final static Map<String, TypeToken> registry = new ConcurrentHashMap();
     
+    private final static Map<String, ContentCodec> codecs = new ConcurrentHashMap();
+    
     public static void register(String type, TypeToken token) {
         LOGGER.info("Register type {} with token {}", type, token.toString());
         registry.put(type, token);
     }
     
+    /**
+     * Register type with binary codec of content.
+     * @param type name of type;
+     * @param token type token;
+     * @param codec content codec used by binary wire format;
+     * @since 6.1
+     */
+    public static void register(String type, TypeToken token, ContentCodec codec) {
+        register(type, token);
+        codecs.put(type, codec);
+    }
+    
+    /**
+     * Get binary codec of content by type name.
+     * @param type name of type;
+     * @return content codec or null if type has no codec;
+     * @since 6.1
+     */
+    public static ContentCodec getContentCodec(String type) {
+        return type != null ? codecs.get(type) : null;
+    }
+    
     public static TypeToken resolveType(String type) {
         return registry.get(type);
     }
     
+    /**
+     * Get all registered types.
+     * @return unmodifiable view of registered type tokens by type names;
+     * @since 6.1
+     */
+    public static Map<String, TypeToken> getRegisteredTypes() {
+        return Collections.unmodifiableMap(registry);
+    }
+    
     public static Boolean isTypeRegistered(String type) {
         return registry.containsKey(type);
     }
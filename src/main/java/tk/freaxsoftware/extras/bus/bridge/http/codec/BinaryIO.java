@@ -0,0 +1,159 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Primitives of binary wire format: varints and length prefixed strings.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public final class BinaryIO {
+    
+    private BinaryIO() {}
+    
+    /**
+     * Write unsigned varint, 7 bits per byte.
+     * @param out output stream;
+     * @param value non negative value;
+     * @throws IOException if writing fails;
+     */
+    public static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+    
+    /**
+     * Read unsigned varint.
+     * @param in input stream;
+     * @return value;
+     * @throws IOException if stream ends or varint is malformed;
+     */
+    public static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+    
+    /**
+     * Write signed long as zigzag varint.
+     * @param out output stream;
+     * @param value value;
+     * @throws IOException if writing fails;
+     */
+    public static void writeVarLong(OutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+    
+    /**
+     * Read signed long written as zigzag varint.
+     * @param in input stream;
+     * @return value;
+     * @throws IOException if stream ends or varint is malformed;
+     */
+    public static long readVarLong(InputStream in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte(in);
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+    
+    /**
+     * Write nullable UTF-8 string prefixed by length plus one, zero length means null.
+     * @param out output stream;
+     * @param value string or null;
+     * @throws IOException if writing fails;
+     */
+    public static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+    
+    /**
+     * Read nullable string.
+     * @param in input stream;
+     * @return string or null;
+     * @throws IOException if stream ends;
+     */
+    public static String readString(InputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        return new String(readBytes(in, length - 1), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Read exact amount of bytes.
+     * @param in input stream;
+     * @param length amount of bytes;
+     * @return bytes;
+     * @throws IOException if stream ends;
+     */
+    public static byte[] readBytes(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Unexpected end of binary message");
+        }
+        return bytes;
+    }
+    
+    /**
+     * Read single byte.
+     * @param in input stream;
+     * @return byte value from 0 to 255;
+     * @throws IOException if stream ends;
+     */
+    public static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of binary message");
+        }
+        return b;
+    }
+}
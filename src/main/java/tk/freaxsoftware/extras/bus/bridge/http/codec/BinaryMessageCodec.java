@@ -0,0 +1,322 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import tk.freaxsoftware.extras.bus.GlobalCons;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.bridge.http.ContentAdapterCache;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+import tk.freaxsoftware.extras.bus.bridge.http.TypeResolver;
+import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+import tk.freaxsoftware.extras.bus.storage.StorageInterceptor;
+
+/**
+ * Compact binary codec of message entries. Numbers are written as varints, dates as epoch seconds and nanos, 
+ * status as ordinal, well known header keys as indexes in dictionary. Content is encoded by codec 
+ * registered for type name in {@link TypeResolver} or as json otherwise.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BinaryMessageCodec implements MessageCodec {
+    
+    /**
+     * Media type of binary entries.
+     */
+    public static final String CONTENT_TYPE = "application/x-messagebus-binary";
+    
+    /**
+     * Version of binary format.
+     */
+    private static final int VERSION = 1;
+    
+    /**
+     * Entry without content.
+     */
+    private static final int CONTENT_NONE = 0;
+    
+    /**
+     * Content encoded as json.
+     */
+    private static final int CONTENT_JSON = 1;
+    
+    /**
+     * Content encoded by registered content codec.
+     */
+    private static final int CONTENT_CODEC = 2;
+    
+    /**
+     * Dictionary of well known header keys, new keys should be added only to the end.
+     */
+    private static final String[] HEADER_DICTIONARY = new String[] {
+        LocalHttpCons.L_HTTP_MODE_HEADER,
+        LocalHttpCons.L_HTTP_NODE_IP_HEADER,
+        LocalHttpCons.L_HTTP_NODE_PORT_HEADER,
+        LocalHttpCons.L_HTTP_NODE_SYNC_CALL_HEADER,
+        LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER,
+        LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER,
+        LocalHttpCons.L_HTTP_REPLY_PORT_HEADER,
+        GlobalCons.G_SUBSCRIPTION_DEST_HEADER,
+        GlobalCons.G_EXCEPTION_HEADER,
+        GlobalCons.G_EXCEPTION_MESSAGE_HEADER,
+        GlobalCons.G_REDELIVERY_MODE_HEADER,
+        StorageInterceptor.IGNORE_STORAGE_HEADER
+    };
+    
+    /**
+     * Index of dictionary keys.
+     */
+    private static final Map<String, Integer> HEADER_INDEX = new HashMap<>();
+    
+    /**
+     * Max size of interned unknown header keys.
+     */
+    private static final int MAX_INTERNED_KEYS = 1024;
+    
+    static {
+        for (int i = 0; i < HEADER_DICTIONARY.length; i++) {
+            HEADER_INDEX.put(HEADER_DICTIONARY[i], i + 1);
+        }
+    }
+    
+    /**
+     * Interned header keys outside of dictionary.
+     */
+    private final Map<String, String> internedKeys = new ConcurrentHashMap<>();
+    
+    /**
+     * Cache of time zones by id.
+     */
+    private final Map<String, ZoneId> zones = new ConcurrentHashMap<>();
+    
+    /**
+     * Cache of adapters for json content.
+     */
+    private final ContentAdapterCache adapters = new ContentAdapterCache(GsonUtils.getGson());
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void encode(HttpMessageEntry entry, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out);
+        buffered.write(VERSION);
+        writeEntry(buffered, entry);
+        buffered.flush();
+    }
+
+    @Override
+    public HttpMessageEntry decode(InputStream in) throws IOException, ClassNotFoundException {
+        InputStream buffered = buffer(in);
+        readVersion(buffered);
+        return readEntry(buffered);
+    }
+
+    @Override
+    public void encodeBatch(List<HttpMessageEntry> entries, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out);
+        buffered.write(VERSION);
+        BinaryIO.writeVarInt(buffered, entries.size());
+        for (HttpMessageEntry entry: entries) {
+            writeEntry(buffered, entry);
+        }
+        buffered.flush();
+    }
+
+    @Override
+    public List<HttpMessageEntry> decodeBatch(InputStream in) throws IOException, ClassNotFoundException {
+        InputStream buffered = buffer(in);
+        readVersion(buffered);
+        int size = BinaryIO.readVarInt(buffered);
+        List<HttpMessageEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(readEntry(buffered));
+        }
+        return entries;
+    }
+    
+    private InputStream buffer(InputStream in) {
+        return in instanceof BufferedInputStream || in instanceof ByteArrayInputStream ? in : new BufferedInputStream(in);
+    }
+    
+    private void readVersion(InputStream in) throws IOException {
+        int version = BinaryIO.readByte(in);
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported version %d of binary message", version));
+        }
+    }
+    
+    private void writeEntry(OutputStream out, HttpMessageEntry entry) throws IOException {
+        BinaryIO.writeString(out, entry.getId());
+        BinaryIO.writeString(out, entry.getTrxId());
+        writeTime(out, entry.getCreated());
+        writeTime(out, entry.getUpdated());
+        BinaryIO.writeVarInt(out, entry.getStatus() != null ? entry.getStatus().ordinal() + 1 : 0);
+        BinaryIO.writeString(out, entry.getTopic());
+        Map<String, String> headers = entry.getHeaders();
+        BinaryIO.writeVarInt(out, headers != null ? headers.size() : 0);
+        if (headers != null) {
+            for (Map.Entry<String, String> header: headers.entrySet()) {
+                Integer index = HEADER_INDEX.get(header.getKey());
+                if (index != null) {
+                    BinaryIO.writeVarInt(out, index);
+                } else {
+                    out.write(0);
+                    BinaryIO.writeString(out, header.getKey());
+                }
+                BinaryIO.writeString(out, header.getValue());
+            }
+        }
+        BinaryIO.writeString(out, entry.getTypeName());
+        BinaryIO.writeString(out, entry.getFullTypeName());
+        writeContent(out, entry);
+    }
+    
+    private HttpMessageEntry readEntry(InputStream in) throws IOException, ClassNotFoundException {
+        String id = BinaryIO.readString(in);
+        String trxId = BinaryIO.readString(in);
+        ZonedDateTime created = readTime(in);
+        ZonedDateTime updated = readTime(in);
+        int status = BinaryIO.readVarInt(in);
+        String topic = BinaryIO.readString(in);
+        int headerCount = BinaryIO.readVarInt(in);
+        Map<String, String> headers = new HashMap<>(headerCount * 2 + 2);
+        for (int i = 0; i < headerCount; i++) {
+            String key = readHeaderKey(in);
+            headers.put(key, BinaryIO.readString(in));
+        }
+        String typeName = BinaryIO.readString(in);
+        String fullTypeName = BinaryIO.readString(in);
+        Object content = readContent(in, typeName, fullTypeName);
+        if (typeName != null) {
+            headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, typeName);
+        }
+        return new HttpMessageEntry(id, trxId, created, updated, 
+                status > 0 ? MessageStatus.values()[status - 1] : null, topic, headers, content);
+    }
+    
+    private void writeTime(OutputStream out, ZonedDateTime time) throws IOException {
+        if (time == null) {
+            out.write(0);
+            return;
+        }
+        out.write(1);
+        BinaryIO.writeVarLong(out, time.toEpochSecond());
+        BinaryIO.writeVarInt(out, time.getNano());
+        BinaryIO.writeString(out, time.getZone().getId());
+    }
+    
+    private ZonedDateTime readTime(InputStream in) throws IOException {
+        if (BinaryIO.readByte(in) == 0) {
+            return null;
+        }
+        long seconds = BinaryIO.readVarLong(in);
+        int nanos = BinaryIO.readVarInt(in);
+        ZoneId zone = zones.computeIfAbsent(BinaryIO.readString(in), ZoneId::of);
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), zone);
+    }
+    
+    private String readHeaderKey(InputStream in) throws IOException {
+        int index = BinaryIO.readVarInt(in);
+        if (index > 0) {
+            if (index > HEADER_DICTIONARY.length) {
+                throw new IOException(String.format("Unknown header key index %d", index));
+            }
+            return HEADER_DICTIONARY[index - 1];
+        }
+        String key = BinaryIO.readString(in);
+        String interned = internedKeys.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        if (internedKeys.size() < MAX_INTERNED_KEYS) {
+            internedKeys.putIfAbsent(key, key);
+        }
+        return key;
+    }
+    
+    private void writeContent(OutputStream out, HttpMessageEntry entry) throws IOException {
+        Object content = entry.getContent();
+        if (content == null) {
+            out.write(CONTENT_NONE);
+            return;
+        }
+        ContentCodec codec = TypeResolver.getContentCodec(entry.getTypeName());
+        if (codec != null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            codec.encode(content, bytes);
+            out.write(CONTENT_CODEC);
+            BinaryIO.writeVarInt(out, bytes.size());
+            bytes.writeTo(out);
+        } else {
+            byte[] bytes = adapters.getAdapter(content.getClass()).toJson(content).getBytes(StandardCharsets.UTF_8);
+            out.write(CONTENT_JSON);
+            BinaryIO.writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+    
+    private Object readContent(InputStream in, String typeName, String fullTypeName) throws IOException, ClassNotFoundException {
+        int kind = BinaryIO.readByte(in);
+        if (kind == CONTENT_NONE) {
+            return null;
+        }
+        InputStream content = new ByteArrayInputStream(BinaryIO.readBytes(in, BinaryIO.readVarInt(in)));
+        if (kind == CONTENT_CODEC) {
+            ContentCodec codec = TypeResolver.getContentCodec(typeName);
+            if (codec == null) {
+                throw new IOException(String.format("Content codec of type %s isn't registered", typeName));
+            }
+            return codec.decode(content);
+        } else if (kind == CONTENT_JSON) {
+            TypeAdapter<Object> adapter = adapters.getAdapter(typeName, fullTypeName);
+            if (adapter == null) {
+                return null;
+            }
+            try {
+                return adapter.fromJson(new InputStreamReader(content, StandardCharsets.UTF_8));
+            } catch (JsonParseException ex) {
+                throw new IOException(ex);
+            }
+        }
+        throw new IOException(String.format("Unknown content kind %d", kind));
+    }
+    
+}
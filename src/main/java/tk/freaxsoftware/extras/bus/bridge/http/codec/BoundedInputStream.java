@@ -0,0 +1,88 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream which fails with {@link PayloadTooLargeException} once more than max size bytes were read.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+class BoundedInputStream extends FilterInputStream {
+    
+    /**
+     * Max amount of bytes to read.
+     */
+    private final long maxSize;
+    
+    /**
+     * Amount of bytes read.
+     */
+    private long count;
+
+    /**
+     * Default constructor.
+     * @param input stream to read;
+     * @param maxSize max amount of bytes to read;
+     */
+    BoundedInputStream(InputStream input, long maxSize) {
+        super(input);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            count(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long amount) throws IOException {
+        long skipped = super.skip(amount);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+    
+    private void count(long read) throws PayloadTooLargeException {
+        count += read;
+        if (count > maxSize) {
+            throw new PayloadTooLargeException(maxSize);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Binary codec of message content, registered in {@link tk.freaxsoftware.extras.bus.bridge.http.TypeResolver} 
+ * by type name. Used by binary wire format instead of json content.
+ * @author Stanislav Nepochatov
+ * @param <T> type of content;
+ * @since 6.1
+ */
+public interface ContentCodec<T> {
+    
+    /**
+     * Encode content to the stream.
+     * @param content message content;
+     * @param out output stream;
+     * @throws IOException if writing fails;
+     */
+    void encode(T content, OutputStream out) throws IOException;
+    
+    /**
+     * Decode content from the stream.
+     * @param in input stream limited to encoded content;
+     * @return message content;
+     * @throws IOException if reading fails;
+     */
+    T decode(InputStream in) throws IOException;
+}
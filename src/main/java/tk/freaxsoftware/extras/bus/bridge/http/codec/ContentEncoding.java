@@ -0,0 +1,198 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Content encoding of compressed payloads sent by HTTP bridge. Nodes always accept all encodings 
+ * and advertise them by {@link #ACCEPT_ENCODING_HEADER} of responses, sender compresses payloads 
+ * only after peer advertised encoding, so nodes of older versions keep receiving plain payloads.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public enum ContentEncoding {
+    
+    /**
+     * Gzip with default level, better compression ratio.
+     */
+    GZIP("gzip") {
+        
+        @Override
+        public byte[] compress(byte[] payload) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 4 + 64);
+            try (GZIPOutputStream output = new GZIPOutputStream(buffer, BUFFER_SIZE)) {
+                output.write(payload);
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public InputStream decompress(InputStream input) throws IOException {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+    },
+    
+    /**
+     * Zlib deflate with best speed level, faster compression for latency sensitive nodes.
+     */
+    DEFLATE("deflate") {
+        
+        @Override
+        public byte[] compress(byte[] payload) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 4 + 64);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream output = new DeflaterOutputStream(buffer, deflater, BUFFER_SIZE)) {
+                output.write(payload);
+            } finally {
+                deflater.end();
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public InputStream decompress(InputStream input) throws IOException {
+            return new InflaterInputStream(input);
+        }
+    };
+    
+    /**
+     * Header with encoding of payload.
+     */
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    
+    /**
+     * Header with encodings accepted by node.
+     */
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    
+    /**
+     * Name of encoding of plain payloads.
+     */
+    public static final String IDENTITY = "identity";
+    
+    /**
+     * Encodings accepted by this node.
+     */
+    public static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+    
+    /**
+     * Size of buffers of compression streams.
+     */
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final String name;
+
+    private ContentEncoding(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get name of encoding used in headers.
+     * @return name of encoding;
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Compress payload.
+     * @param payload plain payload;
+     * @return compressed payload;
+     * @throws IOException 
+     */
+    public abstract byte[] compress(byte[] payload) throws IOException;
+    
+    /**
+     * Wraps stream of compressed payload.
+     * @param input stream of compressed payload;
+     * @return stream of plain payload;
+     * @throws IOException 
+     */
+    public abstract InputStream decompress(InputStream input) throws IOException;
+    
+    /**
+     * Get encoding by name from {@link #CONTENT_ENCODING_HEADER}.
+     * @param name name of encoding or null;
+     * @return encoding or null for absent or identity encoding;
+     * @throws IOException if encoding isn't supported;
+     */
+    public static ContentEncoding forName(String name) throws IOException {
+        if (name == null || name.isBlank() || name.trim().equalsIgnoreCase(IDENTITY)) {
+            return null;
+        }
+        for (ContentEncoding encoding: values()) {
+            if (encoding.name.equalsIgnoreCase(name.trim())) {
+                return encoding;
+            }
+        }
+        throw new IOException(String.format("Unsupported content encoding %s", name));
+    }
+    
+    /**
+     * Wraps stream of payload by its content encoding.
+     * @param contentEncoding value of {@link #CONTENT_ENCODING_HEADER} or null;
+     * @param input stream of payload;
+     * @return stream of plain payload;
+     * @throws IOException if encoding isn't supported;
+     */
+    public static InputStream decode(String contentEncoding, InputStream input) throws IOException {
+        ContentEncoding encoding = forName(contentEncoding);
+        return encoding != null ? encoding.decompress(input) : input;
+    }
+    
+    /**
+     * Wraps stream of payload by its content encoding, size of decompressed payload is limited.
+     * @param contentEncoding value of {@link #CONTENT_ENCODING_HEADER} or null;
+     * @param input stream of payload;
+     * @param maxDecodedSize max size in bytes of decompressed payload;
+     * @return stream of plain payload which throws {@link PayloadTooLargeException} once limit is exceeded;
+     * @throws IOException if encoding isn't supported;
+     */
+    public static InputStream decode(String contentEncoding, InputStream input, long maxDecodedSize) throws IOException {
+        ContentEncoding encoding = forName(contentEncoding);
+        return encoding != null ? new BoundedInputStream(encoding.decompress(input), maxDecodedSize) : input;
+    }
+    
+    /**
+     * Checks if peer accepts encoding, parameters of encodings are ignored.
+     * @param encoding encoding of sender;
+     * @param acceptedEncodings value of {@link #ACCEPT_ENCODING_HEADER} returned by peer or null;
+     * @return true if encoding is in accepted encodings;
+     */
+    public static boolean isAccepted(ContentEncoding encoding, String acceptedEncodings) {
+        if (acceptedEncodings == null) {
+            return false;
+        }
+        for (String accepted: acceptedEncodings.split(",")) {
+            int index = accepted.indexOf(';');
+            if ((index >= 0 ? accepted.substring(0, index) : accepted).trim().equalsIgnoreCase(encoding.name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntryUtil;
+
+/**
+ * Json codec of message entries, default wire format supported by all nodes.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class JsonMessageCodec implements MessageCodec {
+    
+    /**
+     * Media type of json entries.
+     */
+    public static final String CONTENT_TYPE = "application/json";
+    
+    /**
+     * Message util instance.
+     */
+    private final HttpMessageEntryUtil messageUtil = new HttpMessageEntryUtil();
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void encode(HttpMessageEntry entry, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        messageUtil.serialize(entry, writer);
+        writer.flush();
+    }
+
+    @Override
+    public HttpMessageEntry decode(InputStream in) throws IOException, ClassNotFoundException {
+        return messageUtil.deserialize(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void encodeBatch(List<HttpMessageEntry> entries, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        messageUtil.serializeBatch(entries, writer);
+        writer.flush();
+    }
+
+    @Override
+    public List<HttpMessageEntry> decodeBatch(InputStream in) throws IOException, ClassNotFoundException {
+        return messageUtil.deserializeBatch(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+    
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+
+/**
+ * Codec of message entries on the wire of HTTP bridge.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public interface MessageCodec {
+    
+    /**
+     * Get media type of encoded entries, used as Content-Type of requests and responses.
+     * @return media type;
+     */
+    String getContentType();
+    
+    /**
+     * Encode message entry to the stream.
+     * @param entry message entry;
+     * @param out output stream;
+     * @throws IOException if writing fails;
+     */
+    void encode(HttpMessageEntry entry, OutputStream out) throws IOException;
+    
+    /**
+     * Decode message entry from the stream.
+     * @param in input stream;
+     * @return decoded message entry;
+     * @throws IOException if reading fails or stream is malformed;
+     * @throws ClassNotFoundException if content class not found;
+     */
+    HttpMessageEntry decode(InputStream in) throws IOException, ClassNotFoundException;
+    
+    /**
+     * Encode batch of message entries to the stream.
+     * @param entries message entries;
+     * @param out output stream;
+     * @throws IOException if writing fails;
+     */
+    void encodeBatch(List<HttpMessageEntry> entries, OutputStream out) throws IOException;
+    
+    /**
+     * Decode batch of message entries from the stream.
+     * @param in input stream;
+     * @return decoded message entries;
+     * @throws IOException if reading fails or stream is malformed;
+     * @throws ClassNotFoundException if content class not found;
+     */
+    List<HttpMessageEntry> decodeBatch(InputStream in) throws IOException, ClassNotFoundException;
+}
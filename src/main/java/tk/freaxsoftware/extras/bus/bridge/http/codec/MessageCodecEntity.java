@@ -0,0 +1,84 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.http.entity.AbstractHttpEntity;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+
+/**
+ * Entity of Apache HTTP client which writes message entry by codec directly to connection stream.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MessageCodecEntity extends AbstractHttpEntity {
+    
+    /**
+     * Codec of entry.
+     */
+    private final MessageCodec codec;
+    
+    /**
+     * Entry to write.
+     */
+    private final HttpMessageEntry entry;
+
+    /**
+     * Default constructor.
+     * @param codec codec of entry;
+     * @param entry entry to write;
+     */
+    public MessageCodecEntity(MessageCodec codec, HttpMessageEntry entry) {
+        this.codec = codec;
+        this.entry = entry;
+        setContentType(codec.getContentType());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        codec.encode(entry, outstream);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+    
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+/**
+ * Registry of wire codecs and negotiation of them by media types. Nodes always accept all codecs 
+ * and advertise them by {@link #ACCEPT_POST_HEADER} of responses, sender switches to preferred codec 
+ * only after peer advertised it, so nodes of older versions keep receiving json.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public final class MessageCodecs {
+    
+    /**
+     * Response header with media types accepted by node.
+     */
+    public static final String ACCEPT_POST_HEADER = "Accept-Post";
+    
+    /**
+     * Json codec.
+     */
+    public static final MessageCodec JSON = new JsonMessageCodec();
+    
+    /**
+     * Binary codec.
+     */
+    public static final MessageCodec BINARY = new BinaryMessageCodec();
+    
+    /**
+     * Media types accepted by this node.
+     */
+    public static final String ACCEPTED_TYPES = JSON.getContentType() + ", " + BINARY.getContentType();
+    
+    /**
+     * Preferred codec of senders.
+     */
+    private static volatile MessageCodec preferred = JSON;
+    
+    private MessageCodecs() {}
+    
+    /**
+     * Get codec by Content-Type, parameters of media type are ignored.
+     * @param contentType media type or null;
+     * @return codec for media type, json codec for absent or unknown type;
+     */
+    public static MessageCodec forContentType(String contentType) {
+        if (contentType != null && mediaType(contentType).equalsIgnoreCase(BINARY.getContentType())) {
+            return BINARY;
+        }
+        return JSON;
+    }
+    
+    /**
+     * Negotiate codec for next requests to peer.
+     * @param preferredCodec codec preferred by sender;
+     * @param acceptedTypes value of {@link #ACCEPT_POST_HEADER} returned by peer or null;
+     * @return preferred codec if peer accepts it, json codec otherwise;
+     */
+    public static MessageCodec negotiate(MessageCodec preferredCodec, String acceptedTypes) {
+        if (preferredCodec == JSON || acceptedTypes == null) {
+            return JSON;
+        }
+        for (String type: acceptedTypes.split(",")) {
+            if (mediaType(type).equalsIgnoreCase(preferredCodec.getContentType())) {
+                return preferredCodec;
+            }
+        }
+        return JSON;
+    }
+    
+    /**
+     * Set preferred codec of senders without own preference.
+     * @param format wire format or null for json;
+     */
+    public static void setPreferred(WireFormat format) {
+        preferred = format != null ? format.getCodec() : JSON;
+    }
+    
+    /**
+     * Get preferred codec of senders.
+     * @return preferred codec;
+     */
+    public static MessageCodec getPreferred() {
+        return preferred;
+    }
+    
+    private static String mediaType(String contentType) {
+        int index = contentType.indexOf(';');
+        return (index >= 0 ? contentType.substring(0, index) : contentType).trim();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.IOException;
+
+/**
+ * Thrown when decoded payload exceeds max allowed size.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class PayloadTooLargeException extends IOException {
+    
+    /**
+     * Max allowed size in bytes.
+     */
+    private final long maxSize;
+
+    /**
+     * Default constructor.
+     * @param maxSize max allowed size in bytes;
+     */
+    public PayloadTooLargeException(long maxSize) {
+        super(String.format("Decoded payload exceeds max size of %d bytes", maxSize));
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Checks if exception or one of its causes is caused by too large payload.
+     * @param ex exception to check;
+     * @return true if payload was too large;
+     */
+    public static boolean isCause(Throwable ex) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (current instanceof PayloadTooLargeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Binary codec of string sets, used for heartbeat content.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class StringSetCodec implements ContentCodec<Collection<String>> {
+
+    @Override
+    public void encode(Collection<String> content, OutputStream out) throws IOException {
+        BinaryIO.writeVarInt(out, content.size());
+        for (String item: content) {
+            BinaryIO.writeString(out, item);
+        }
+    }
+
+    @Override
+    public Set<String> decode(InputStream in) throws IOException {
+        int size = BinaryIO.readVarInt(in);
+        Set<String> content = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            content.add(BinaryIO.readString(in));
+        }
+        return content;
+    }
+    
+}
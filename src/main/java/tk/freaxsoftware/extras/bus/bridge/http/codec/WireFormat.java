@@ -0,0 +1,51 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.codec;
+
+/**
+ * Wire format of message entries sent by HTTP bridge.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public enum WireFormat {
+    
+    /**
+     * Json entries, supported by all nodes.
+     */
+    JSON(MessageCodecs.JSON),
+    
+    /**
+     * Compact binary entries, used only with nodes which accept it.
+     */
+    BINARY(MessageCodecs.BINARY);
+    
+    private final MessageCodec codec;
+
+    private WireFormat(MessageCodec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Get codec of the format.
+     * @return message codec;
+     */
+    public MessageCodec getCodec() {
+        return codec;
+    }
+}
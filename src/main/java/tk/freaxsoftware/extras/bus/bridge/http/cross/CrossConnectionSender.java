@@ -18,10 +18,13 @@
  */
 package tk.freaxsoftware.extras.bus.bridge.http.cross;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.MessageBus;
 import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
 import tk.freaxsoftware.extras.bus.bridge.http.MessagePeerSender;
 
 /**
@@ -33,7 +36,15 @@ public class CrossConnectionSender extends MessagePeerSender {
     
     private final static Logger LOGGER = LoggerFactory.getLogger(CrossConnectionSender.class);
     
-    private Integer breakCounter = 3;
+    /**
+     * Amount of errors in a row which terminates cross connection.
+     */
+    private static final int BREAK_LIMIT = 3;
+    
+    /**
+     * Amount of errors left before termination, updated by async completions concurrently.
+     */
+    private final AtomicInteger breakCounter = new AtomicInteger(BREAK_LIMIT);
 
     public CrossConnectionSender(String address, Integer port) {
         super(address, port);
@@ -41,22 +52,53 @@ public class CrossConnectionSender extends MessagePeerSender {
 
     @Override
     public void receive(MessageHolder message) throws Exception {
+        if (isDetached(message)) {
+            detach(message, () -> receiveAsync(message));
+            return;
+        }
         try {
             super.receive(message);
-            breakCounter = 3;
-        } catch (Exception ex) {
-            LOGGER.error("Cross connection node {} port {} thrown exception {}, breakCounter = {}", 
-                    this.address, this.port, ex.getClass(), breakCounter);
-            breakCounter--;
-            if (breakCounter == 0) {
-                LOGGER.error("Terminating cross connection node {} port {}", this.address, this.port);
-                for (String subscruptionTopic: this.subscriptions) {
-                    MessageBus.removeSubscription(subscruptionTopic, this);
-                }
+            if (!(isBatching() && isNotification(message))) {
+                breakCounter.set(BREAK_LIMIT);
             }
+        } catch (Exception ex) {
+            onError(ex);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> receiveAsync(MessageHolder message) {
+        CompletableFuture<Void> sending = super.receiveAsync(message);
+        return linkCancellation(sending, sending.handle((ignored, ex) -> {
+            if (ex != null) {
+                onError(ex);
+            } else {
+                breakCounter.set(BREAK_LIMIT);
+            }
+            return null;
+        }));
+    }
     
+    @Override
+    protected void onQueuedDelivery(HttpMessageEntry entry, Throwable ex) {
+        super.onQueuedDelivery(entry, ex);
+        if (ex != null) {
+            onError(ex);
+        } else {
+            breakCounter.set(BREAK_LIMIT);
+        }
+    }
     
+    private void onError(Throwable ex) {
+        int left = breakCounter.decrementAndGet();
+        LOGGER.error("Cross connection node {} port {} thrown exception {}, breakCounter = {}", 
+                this.address, this.port, ex.getClass(), left + 1);
+        if (left == 0) {
+            LOGGER.error("Terminating cross connection node {} port {}", this.address, this.port);
+            for (String subscruptionTopic: this.subscriptions) {
+                MessageBus.removeSubscription(subscruptionTopic, this);
+            }
+        }
+    }
     
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.bridge.http.util;
+
+import com.google.gson.Gson;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * Streaming json entity for Apache HTTP client. Object is written to 
+ * connection stream directly without building intermediate string.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class GsonHttpEntity extends AbstractHttpEntity {
+    
+    /**
+     * Gson instance.
+     */
+    private final Gson gson;
+    
+    /**
+     * Object to write.
+     */
+    private final Object source;
+    
+    /**
+     * Type of object.
+     */
+    private final Type type;
+
+    /**
+     * Default constructor.
+     * @param source object to write;
+     * @param type type of object;
+     */
+    public GsonHttpEntity(Object source, Type type) {
+        this(GsonUtils.getGson(), source, type);
+    }
+
+    /**
+     * Constructor with custom gson.
+     * @param gson gson instance;
+     * @param source object to write;
+     * @param type type of object;
+     */
+    public GsonHttpEntity(Gson gson, Object source, Type type) {
+        this.gson = gson;
+        this.source = source;
+        this.type = type;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        Writer writer = new OutputStreamWriter(outstream, StandardCharsets.UTF_8);
+        gson.toJson(source, type, writer);
+        writer.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+    
+}
@@ -21,6 +21,7 @@ package tk.freaxsoftware.extras.bus.bridge.http.util;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.time.ZonedDateTime;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntryTypeAdapter;
 
 /**
  * GSON utils class.
@@ -28,16 +29,24 @@ import java.time.ZonedDateTime;
  */
 public class GsonUtils {
     
-    private static Gson gson;
+    /**
+     * Holder of shared instance, initialized once on first access.
+     */
+    private static class GsonHolder {
+        
+        private static final Gson GSON = new GsonBuilder()
+                .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeSerializer())
+                .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeDeserializer())
+                .registerTypeAdapterFactory(HttpMessageEntryTypeAdapter.FACTORY)
+                .create();
+    }
     
+    /**
+     * Get shared thread safe gson instance.
+     * @return gson instance;
+     */
     public static Gson getGson() {
-        if (gson == null) {
-            gson = new GsonBuilder()
-                    .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeSerializer())
-                    .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeDeserializer())
-                    .create();
-        }
-        return gson;
+        return GsonHolder.GSON;
     }
     
 }
@@ -0,0 +1,117 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config;
+
+import java.util.regex.Pattern;
+import tk.freaxsoftware.extras.bus.balancer.Balancer;
+import tk.freaxsoftware.extras.bus.balancer.LeastInFlightBalancer;
+import tk.freaxsoftware.extras.bus.balancer.LeastLoadedBalancer;
+import tk.freaxsoftware.extras.bus.balancer.RoundRobinBalancer;
+import tk.freaxsoftware.extras.bus.balancer.StickyBalancer;
+import tk.freaxsoftware.extras.bus.balancer.WeightedBalancer;
+
+/**
+ * Config of point-to-point balancing for topics.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BalancingConfig {
+    
+    /**
+     * Regex pattern of topics.
+     */
+    private String topicPattern;
+    
+    /**
+     * Balancing strategy.
+     */
+    private BalancingStrategy strategy;
+    
+    /**
+     * Header with key of message for {@code STICKY} strategy.
+     */
+    private String header;
+    
+    /**
+     * Compiled topic pattern.
+     */
+    private transient Pattern compiledPattern;
+
+    public String getTopicPattern() {
+        return topicPattern;
+    }
+
+    public void setTopicPattern(String topicPattern) {
+        this.topicPattern = topicPattern;
+        this.compiledPattern = null;
+    }
+
+    public BalancingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(BalancingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+    
+    /**
+     * Checks if topic matches config pattern.
+     * @param topic topic to check;
+     * @return true if topic matches;
+     */
+    public boolean isMatched(String topic) {
+        if (topicPattern == null) {
+            return false;
+        }
+        if (compiledPattern == null) {
+            compiledPattern = Pattern.compile(topicPattern);
+        }
+        return compiledPattern.matcher(topic).matches();
+    }
+    
+    /**
+     * Builds new balancer by strategy.
+     * @return balancer instance;
+     */
+    public Balancer buildBalancer() {
+        if (strategy == null) {
+            return new RoundRobinBalancer();
+        }
+        switch (strategy) {
+            case LEAST_IN_FLIGHT:
+                return new LeastInFlightBalancer();
+            case LEAST_LOADED:
+                return new LeastLoadedBalancer();
+            case WEIGHTED:
+                return new WeightedBalancer();
+            case STICKY:
+                return new StickyBalancer(header);
+            default:
+                return new RoundRobinBalancer();
+        }
+    }
+}
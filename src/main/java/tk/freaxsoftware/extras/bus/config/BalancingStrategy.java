@@ -0,0 +1,53 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config;
+
+/**
+ * Strategy of point-to-point balancing between receivers of the topic.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public enum BalancingStrategy {
+    
+    /**
+     * Receivers are selected in turn (default).
+     */
+    ROUND_ROBIN,
+    
+    /**
+     * Receiver with least amount of messages in processing is selected.
+     */
+    LEAST_IN_FLIGHT,
+    
+    /**
+     * Less loaded of two random receivers is selected, load is estimated 
+     * by amount of messages in processing and average delivery time.
+     */
+    LEAST_LOADED,
+    
+    /**
+     * Receivers get share of messages proportional to their weight.
+     */
+    WEIGHTED,
+    
+    /**
+     * Messages with the same value of header are delivered to the same receiver.
+     */
+    STICKY;
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config;
+
+import java.util.List;
+import java.util.Map;
+import org.slf4j.event.Level;
+
+/**
+ * Config of message dispatch logging.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class LoggingConfig {
+    
+    /**
+     * Level of message dispatch logs. {@code INFO} by default.
+     */
+    private Level level;
+    
+    /**
+     * Levels of message dispatch logs by topic.
+     */
+    private Map<String, Level> topicLevels;
+    
+    /**
+     * Topics to filter out from logging.
+     */
+    private List<String> filterTopics;
+    
+    /**
+     * Log only one of N messages for each topic. Every message logged by default.
+     */
+    private Integer sampleRate;
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Map<String, Level> getTopicLevels() {
+        return topicLevels;
+    }
+
+    public void setTopicLevels(Map<String, Level> topicLevels) {
+        this.topicLevels = topicLevels;
+    }
+
+    public List<String> getFilterTopics() {
+        return filterTopics;
+    }
+
+    public void setFilterTopics(List<String> filterTopics) {
+        this.filterTopics = filterTopics;
+    }
+
+    public Integer getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(Integer sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -19,8 +19,10 @@
 
 package tk.freaxsoftware.extras.bus.config;
 
+import java.util.List;
 import tk.freaxsoftware.extras.bus.config.http.ClientConfig;
 import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
+import tk.freaxsoftware.extras.bus.config.pool.LaneConfig;
 import tk.freaxsoftware.extras.bus.config.pool.ThreadPoolConfig;
 import tk.freaxsoftware.extras.bus.storage.StorageConfig;
 
@@ -32,11 +34,19 @@ public class MessageBusConfig {
     
     private ThreadPoolConfig threadPoolConfig;
     
+    private List<LaneConfig> lanes;
+    
     private ServerConfig bridgeServer;
     
     private ClientConfig bridgeClient;
     
     private StorageConfig storage;
+    
+    private PatternDeliveryMode patternDelivery;
+    
+    private LoggingConfig logging;
+    
+    private List<BalancingConfig> balancing;
 
     public ThreadPoolConfig getThreadPoolConfig() {
         return threadPoolConfig;
@@ -46,6 +56,14 @@ public class MessageBusConfig {
         this.threadPoolConfig = threadPoolConfig;
     }
 
+    public List<LaneConfig> getLanes() {
+        return lanes;
+    }
+
+    public void setLanes(List<LaneConfig> lanes) {
+        this.lanes = lanes;
+    }
+
     public ServerConfig getBridgeServer() {
         return bridgeServer;
     }
@@ -69,4 +87,28 @@ public class MessageBusConfig {
     public void setStorage(StorageConfig storage) {
         this.storage = storage;
     }
+
+    public List<BalancingConfig> getBalancing() {
+        return balancing;
+    }
+
+    public void setBalancing(List<BalancingConfig> balancing) {
+        this.balancing = balancing;
+    }
+
+    public LoggingConfig getLogging() {
+        return logging;
+    }
+
+    public void setLogging(LoggingConfig logging) {
+        this.logging = logging;
+    }
+
+    public PatternDeliveryMode getPatternDelivery() {
+        return patternDelivery;
+    }
+
+    public void setPatternDelivery(PatternDeliveryMode patternDelivery) {
+        this.patternDelivery = patternDelivery;
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.http;
+
+/**
+ * Config of outbound batching of async and broadcast messages of the bridge.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BatchConfig {
+    
+    /**
+     * Max amount of messages in single request.
+     */
+    private Integer maxBatchSize;
+    
+    /**
+     * Time in milliseconds to wait for more messages before sending of incomplete batch.
+     */
+    private Integer lingerMillis;
+
+    public Integer getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(Integer maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Integer getLingerMillis() {
+        return lingerMillis;
+    }
+
+    public void setLingerMillis(Integer lingerMillis) {
+        this.lingerMillis = lingerMillis;
+    }
+}
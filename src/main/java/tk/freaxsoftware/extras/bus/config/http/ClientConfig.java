@@ -18,6 +18,9 @@
  */
 package tk.freaxsoftware.extras.bus.config.http;
 
+import tk.freaxsoftware.extras.bus.bridge.http.Transport;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
 /**
  * HTTP cleint config.
  * @author Stanislav Nepochatov
@@ -37,6 +40,31 @@ public class ClientConfig {
     private String[] crossConnectionsReceives;
     
     private String[] crossConnectionsSends;
+    
+    /**
+     * Config of outgoing connections.
+     */
+    private ConnectionConfig connection;
+    
+    /**
+     * Preferred wire format of sent messages, json is used with nodes which don't accept it.
+     */
+    private WireFormat wireFormat;
+    
+    /**
+     * Outbound batching of async and broadcast messages, disabled if absent.
+     */
+    private BatchConfig batching;
+    
+    /**
+     * Transport of messages between nodes, HTTP if absent.
+     */
+    private Transport transport;
+    
+    /**
+     * Compression of large payloads sent to nodes, disabled if absent.
+     */
+    private CompressionConfig compression;
 
     public String getTag() {
         return tag;
@@ -93,4 +121,44 @@ public class ClientConfig {
     public void setCrossConnectionsSends(String[] crossConnectionsSends) {
         this.crossConnectionsSends = crossConnectionsSends;
     }
+
+    public ConnectionConfig getConnection() {
+        return connection;
+    }
+
+    public void setConnection(ConnectionConfig connection) {
+        this.connection = connection;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
+    public BatchConfig getBatching() {
+        return batching;
+    }
+
+    public void setBatching(BatchConfig batching) {
+        this.batching = batching;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public CompressionConfig getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionConfig compression) {
+        this.compression = compression;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.http;
+
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+
+/**
+ * Config of compression of large payloads sent by the bridge.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class CompressionConfig {
+    
+    /**
+     * Encoding of compressed payloads, gzip if absent.
+     */
+    private ContentEncoding encoding;
+    
+    /**
+     * Min size in bytes of payload to compress.
+     */
+    private Integer threshold;
+    
+    /**
+     * Max size in bytes of decompressed payload accepted by node, 64 MiB if absent.
+     */
+    private Integer maxDecodedSize;
+
+    public ContentEncoding getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(ContentEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    public Integer getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Integer threshold) {
+        this.threshold = threshold;
+    }
+
+    public Integer getMaxDecodedSize() {
+        return maxDecodedSize;
+    }
+
+    public void setMaxDecodedSize(Integer maxDecodedSize) {
+        this.maxDecodedSize = maxDecodedSize;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.http;
+
+/**
+ * Config of outgoing HTTP connections of the bridge.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ConnectionConfig {
+    
+    /**
+     * Max amount of open connections to all nodes.
+     */
+    private Integer maxConnections;
+    
+    /**
+     * Max amount of open connections to single node.
+     */
+    private Integer maxConnectionsPerPeer;
+    
+    /**
+     * Time in seconds to keep idle connection open.
+     */
+    private Integer keepAlive;
+    
+    /**
+     * Timeout in seconds of connection establishing.
+     */
+    private Integer connectTimeout;
+    
+    /**
+     * Timeout in seconds of waiting for response data, response is awaited without limit if absent.
+     */
+    private Integer socketTimeout;
+    
+    /**
+     * Send messages by non-blocking client, notifications are sent without waiting for delivery.
+     */
+    private Boolean nonBlocking;
+    
+    /**
+     * Max amount of notifications to single node which are sent but not delivered yet (non-blocking mode).
+     */
+    private Integer maxPendingPerPeer;
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Integer getMaxConnectionsPerPeer() {
+        return maxConnectionsPerPeer;
+    }
+
+    public void setMaxConnectionsPerPeer(Integer maxConnectionsPerPeer) {
+        this.maxConnectionsPerPeer = maxConnectionsPerPeer;
+    }
+
+    public Integer getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Integer keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Integer getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(Integer socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public Boolean getNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(Boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
+    public Integer getMaxPendingPerPeer() {
+        return maxPendingPerPeer;
+    }
+
+    public void setMaxPendingPerPeer(Integer maxPendingPerPeer) {
+        this.maxPendingPerPeer = maxPendingPerPeer;
+    }
+}
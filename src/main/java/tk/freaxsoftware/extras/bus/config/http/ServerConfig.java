@@ -18,6 +18,8 @@
  */
 package tk.freaxsoftware.extras.bus.config.http;
 
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
 /**
  * Http bridge server config.
  * @author Stanislav Nepochatov
@@ -29,6 +31,37 @@ public class ServerConfig {
     private Integer httpPort;
     
     private Boolean crossConnections;
+    
+    /**
+     * Send bridged calls in correlated mode: remote node accepts call immediately 
+     * and sends response back to this server.
+     */
+    private Boolean correlatedCalls;
+    
+    /**
+     * Timeout in seconds of waiting for response of correlated call.
+     */
+    private Integer correlationTimeout;
+    
+    /**
+     * Config of outgoing connections.
+     */
+    private ConnectionConfig connection;
+    
+    /**
+     * Preferred wire format of sent messages, json is used with nodes which don't accept it.
+     */
+    private WireFormat wireFormat;
+    
+    /**
+     * Outbound batching of async and broadcast messages, disabled if absent.
+     */
+    private BatchConfig batching;
+    
+    /**
+     * Compression of large payloads sent to nodes, disabled if absent.
+     */
+    private CompressionConfig compression;
 
     public Integer getHeartbeatRate() {
         return heartbeatRate;
@@ -53,4 +86,52 @@ public class ServerConfig {
     public void setCrossConnections(Boolean crossConnections) {
         this.crossConnections = crossConnections;
     }
+
+    public Boolean getCorrelatedCalls() {
+        return correlatedCalls;
+    }
+
+    public void setCorrelatedCalls(Boolean correlatedCalls) {
+        this.correlatedCalls = correlatedCalls;
+    }
+
+    public Integer getCorrelationTimeout() {
+        return correlationTimeout;
+    }
+
+    public void setCorrelationTimeout(Integer correlationTimeout) {
+        this.correlationTimeout = correlationTimeout;
+    }
+
+    public ConnectionConfig getConnection() {
+        return connection;
+    }
+
+    public void setConnection(ConnectionConfig connection) {
+        this.connection = connection;
+    }
+
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public void setWireFormat(WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
+    public BatchConfig getBatching() {
+        return batching;
+    }
+
+    public void setBatching(BatchConfig batching) {
+        this.batching = batching;
+    }
+
+    public CompressionConfig getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionConfig compression) {
+        this.compression = compression;
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.pool;
+
+/**
+ * Config of dedicated executor lane for topics.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class LaneConfig {
+    
+    /**
+     * Regex pattern of topics processed by lane.
+     */
+    private String topicPattern;
+    
+    /**
+     * Process messages in strict FIFO order.
+     */
+    private Boolean ordered;
+    
+    /**
+     * Header with partition key for ordered lane. Order holds per key while keys processed in parallel.
+     */
+    private String partitionHeader;
+    
+    /**
+     * Amount of partitions for ordered lane with partition header. Amount of processors by default.
+     */
+    private Integer partitions;
+    
+    /**
+     * Thread pool of unordered lane. Queue settings also applied to each partition of ordered lane.
+     */
+    private ThreadPoolConfig threadPoolConfig;
+
+    public String getTopicPattern() {
+        return topicPattern;
+    }
+
+    public void setTopicPattern(String topicPattern) {
+        this.topicPattern = topicPattern;
+    }
+
+    public Boolean getOrdered() {
+        return ordered;
+    }
+
+    public void setOrdered(Boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    public String getPartitionHeader() {
+        return partitionHeader;
+    }
+
+    public void setPartitionHeader(String partitionHeader) {
+        this.partitionHeader = partitionHeader;
+    }
+
+    public Integer getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(Integer partitions) {
+        this.partitions = partitions;
+    }
+
+    public ThreadPoolConfig getThreadPoolConfig() {
+        return threadPoolConfig;
+    }
+
+    public void setThreadPoolConfig(ThreadPoolConfig threadPoolConfig) {
+        this.threadPoolConfig = threadPoolConfig;
+    }
+    
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.pool;
+
+/**
+ * Policy of the bounded thread pool queue overflow.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public enum OverflowPolicy {
+    
+    /**
+     * Block firing thread until there is free space in queue (default).
+     */
+    BLOCK,
+    
+    /**
+     * Process message in firing thread.
+     */
+    CALLER_RUNS,
+    
+    /**
+     * Drop message and increase dropped counter.
+     */
+    DROP,
+    
+    /**
+     * Throw {@code MessageRejectedException} to firing thread.
+     */
+    REJECT;
+}
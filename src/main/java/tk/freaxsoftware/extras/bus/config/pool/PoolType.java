@@ -27,7 +27,8 @@ public enum PoolType {
     FIXED_POOL(FixedThreadPoolConfig.class),
     FORK_JOIN_POOL(ForkJoinThreadPoolConfig.class),
     SINLGE_POOL(SingleThreadPoolConfig.class),
-    CACHED_POOL(CachedThreadPoolConfig.class);
+    CACHED_POOL(CachedThreadPoolConfig.class),
+    VIRTUAL_POOL(VirtualThreadPoolConfig.class);
     
     private Class poolClass;
     
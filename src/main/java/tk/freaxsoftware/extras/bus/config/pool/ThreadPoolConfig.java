@@ -27,6 +27,16 @@ import java.util.concurrent.ExecutorService;
 public abstract class ThreadPoolConfig {
     
     private PoolType type;
+    
+    /**
+     * Max amount of async tasks queued or running in pool. Unbounded if not set.
+     */
+    private Integer queueCapacity;
+    
+    /**
+     * Policy applied when queue is full.
+     */
+    private OverflowPolicy overflowPolicy;
 
     public PoolType getType() {
         return type;
@@ -35,6 +45,22 @@ public abstract class ThreadPoolConfig {
     public void setType(PoolType type) {
         this.type = type;
     }
+
+    public Integer getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
     
     /**
      * Builds executor service according to internal implementation of the config.
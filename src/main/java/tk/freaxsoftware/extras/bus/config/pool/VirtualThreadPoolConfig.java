@@ -0,0 +1,51 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.config.pool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual thread per task pool config class. Amount of tasks running at the same time 
+ * may be limited by {@code maxConcurrency}, no limit by default.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class VirtualThreadPoolConfig extends ThreadPoolConfig {
+    
+    private Integer maxConcurrency;
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public ExecutorService buildThreadPool() {
+        ExecutorService service = Executors.newVirtualThreadPerTaskExecutor();
+        if (maxConcurrency != null && maxConcurrency > 0) {
+            return new ConcurrencyLimitedExecutorService(service, maxConcurrency);
+        }
+        return service;
+    }
+    
+}
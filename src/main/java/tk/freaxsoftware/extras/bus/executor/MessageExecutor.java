@@ -18,11 +18,15 @@
  */
 package tk.freaxsoftware.extras.bus.executor;
 
+import java.util.Collections;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tk.freaxsoftware.extras.bus.MessageBusInit;
 import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.Receiver;
 import tk.freaxsoftware.extras.bus.Subscription;
+import tk.freaxsoftware.extras.bus.metrics.MessageMetrics;
 
 /**
  * Message executor for permforming processing of messages.
@@ -36,10 +40,20 @@ public abstract class MessageExecutor {
     protected final MessageHolder holder;
     protected final Subscription subscription;
     protected final MessageBusInit init;
+    
+    /**
+     * Pattern matched receivers to process after main execution.
+     */
+    protected final Set<Receiver> patternReceivers;
 
     public MessageExecutor(MessageHolder holder, Subscription subscription, MessageBusInit init) {
+        this(holder, subscription, Collections.emptySet(), init);
+    }
+
+    public MessageExecutor(MessageHolder holder, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
         this.holder = holder;
         this.subscription = subscription;
+        this.patternReceivers = patternReceivers;
         this.init = init;
     }
     
@@ -48,6 +62,32 @@ public abstract class MessageExecutor {
      */
     public abstract void exec();
     
+    /**
+     * Performs main execution and delivers message to pattern receivers if there is any.
+     */
+    public void process() {
+        exec();
+        if (!patternReceivers.isEmpty()) {
+            deliverToPatternReceivers(holder, patternReceivers, init.getMetrics());
+        }
+    }
+    
+    /**
+     * Delivers message to pattern matched receivers. Exceptions are logged without any further handling.
+     * @param holder message holder;
+     * @param receivers pattern matched receivers;
+     * @param metrics metrics registry to record delivery;
+     */
+    public static void deliverToPatternReceivers(MessageHolder holder, Set<Receiver> receivers, MessageMetrics metrics) {
+        for (Receiver rec: receivers) {
+            try {
+                metrics.receive(rec, holder);
+            } catch (Exception ex) {
+                LOGGER.error("Receiver {} for topic {} throws exception", rec.getClass().getName(), holder.getTopic(), ex);
+            }
+        }
+    }
+    
     /**
      * Check if new arrived message is already present in message storage. May be used to skip duplicates.
      * @param uuid message unique uuid;
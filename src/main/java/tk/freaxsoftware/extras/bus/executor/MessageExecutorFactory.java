@@ -18,9 +18,14 @@
  */
 package tk.freaxsoftware.extras.bus.executor;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import tk.freaxsoftware.extras.bus.MessageBusInit;
 import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.Receiver;
 import tk.freaxsoftware.extras.bus.Subscription;
+import tk.freaxsoftware.extras.bus.executor.impl.BatchMessageExecutor;
 import tk.freaxsoftware.extras.bus.executor.impl.CallMessageExecutor;
 import tk.freaxsoftware.extras.bus.executor.impl.StoreMessageExecutor;
 import tk.freaxsoftware.extras.bus.executor.impl.VoidMessageExecutor;
@@ -33,15 +38,23 @@ import tk.freaxsoftware.extras.bus.executor.impl.VoidMessageExecutor;
 public class MessageExecutorFactory {
     
     public static MessageExecutor newExecutor(MessageHolder holder, Subscription subscription, MessageBusInit init) {
+        return newExecutor(holder, subscription, Collections.emptySet(), init);
+    }
+    
+    public static MessageExecutor newExecutor(MessageHolder holder, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
         switch (holder.getOptions().getDeliveryPolicy()) {
             case VOID:
-                return new VoidMessageExecutor(holder, subscription, init);
+                return new VoidMessageExecutor(holder, subscription, patternReceivers, init);
             case CALL:
-                return new CallMessageExecutor(holder, subscription, init);
+                return new CallMessageExecutor(holder, subscription, patternReceivers, init);
             case STORE:
-                return new StoreMessageExecutor(holder, subscription, init);
+                return new StoreMessageExecutor(holder, subscription, patternReceivers, init);
         }
         return null;
     }
     
+    public static MessageExecutor newBatchExecutor(List<MessageHolder> holders, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
+        return new BatchMessageExecutor(holders, subscription, patternReceivers, init);
+    }
+    
 }
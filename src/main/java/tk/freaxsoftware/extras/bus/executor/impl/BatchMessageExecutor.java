@@ -0,0 +1,111 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.executor.impl;
+
+import java.util.List;
+import java.util.Set;
+import tk.freaxsoftware.extras.bus.BatchReceiver;
+import tk.freaxsoftware.extras.bus.GlobalCons;
+import tk.freaxsoftware.extras.bus.MessageBusInit;
+import tk.freaxsoftware.extras.bus.MessageContext;
+import tk.freaxsoftware.extras.bus.MessageContextHolder;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.Subscription;
+import tk.freaxsoftware.extras.bus.exceptions.ExceptionServices;
+import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
+import tk.freaxsoftware.extras.bus.executor.MessageExecutorFactory;
+
+/**
+ * Executor for batch of messages with the same topic and options. 
+ * VOID batch is delivered to receivers at once: {@code BatchReceiver} gets whole list, 
+ * other receivers get messages one by one. Point-to-point batch goes to single receiver. 
+ * Other delivery policies processed by default executor for each message.
+ * @author Stanislav Nepochatov
+ * @see MessageOptions.DeliveryPolicy
+ * @since 6.1
+ */
+public class BatchMessageExecutor extends MessageExecutor {
+    
+    /**
+     * Messages of the batch.
+     */
+    private final List<MessageHolder> holders;
+
+    public BatchMessageExecutor(List<MessageHolder> holders, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
+        super(holders.get(0), subscription, patternReceivers, init);
+        this.holders = holders;
+    }
+
+    @Override
+    public void exec() {
+        if (holder.getOptions().getDeliveryPolicy() != MessageOptions.DeliveryPolicy.VOID) {
+            for (MessageHolder batchHolder: holders) {
+                try {
+                    MessageExecutorFactory.newExecutor(batchHolder, subscription, init).exec();
+                } catch (RuntimeException ex) {
+                    LOGGER.error("Message {} of batch on topic {} failed", batchHolder.getId(), holder.getTopic(), ex);
+                    handleException(batchHolder, ex);
+                    if (batchHolder.getStatus() != MessageStatus.FINISHED) {
+                        batchHolder.setStatus(MessageStatus.ERROR);
+                    }
+                }
+            }
+            return;
+        }
+        MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
+        if (subscription != null) {
+            subscription.deliver(holder, rc -> {
+                if (rc instanceof BatchReceiver) {
+                    try {
+                        init.getMetrics().receiveBatch((BatchReceiver) rc, holders);
+                    } catch (Exception ex) {
+                        LOGGER.error("Receiver {} for topic {} throws exception", rc.getClass().getName(), holder.getTopic(), ex);
+                        holders.forEach(batchHolder -> handleException(batchHolder, ex));
+                    }
+                } else {
+                    for (MessageHolder batchHolder: holders) {
+                        try {
+                            init.getMetrics().receive(rc, batchHolder);
+                        } catch (Exception ex) {
+                            LOGGER.error("Receiver {} for topic {} throws exception", rc.getClass().getName(), holder.getTopic(), ex);
+                            handleException(batchHolder, ex);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void process() {
+        exec();
+        if (!patternReceivers.isEmpty()) {
+            holders.forEach(batchHolder -> deliverToPatternReceivers(batchHolder, patternReceivers, init.getMetrics()));
+        }
+    }
+    
+    private void handleException(MessageHolder batchHolder, Exception ex) {
+        batchHolder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_HEADER, ex.getClass().getCanonicalName());
+        batchHolder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_MESSAGE_HEADER, ex.getMessage());
+        ExceptionServices.handle(batchHolder.getResponse(), ex);
+    }
+}
@@ -18,6 +18,7 @@
  */
 package tk.freaxsoftware.extras.bus.executor.impl;
 
+import java.util.Set;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageBusInit;
 import tk.freaxsoftware.extras.bus.MessageContext;
@@ -26,6 +27,7 @@ import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageStatus;
 import tk.freaxsoftware.extras.bus.Receiver;
 import tk.freaxsoftware.extras.bus.Subscription;
+import tk.freaxsoftware.extras.bus.balancer.ReceiverEntry;
 import tk.freaxsoftware.extras.bus.exceptions.ExceptionServices;
 import tk.freaxsoftware.extras.bus.exceptions.NoSubscriptionMessageException;
 import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
@@ -42,22 +44,31 @@ public class CallMessageExecutor extends MessageExecutor {
         super(holder, subscription, init);
     }
 
+    public CallMessageExecutor(MessageHolder holder, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
+        super(holder, subscription, patternReceivers, init);
+    }
+
     @Override
     public void exec() {
         if (isMessagePresent(holder.getId()) && !holder.getHeaders().containsKey(GlobalCons.G_REDELIVERY_MODE_HEADER)) {
             LOGGER.info("Message {} already present in storage, skipping;", holder.getId());
             return;
         }
+        if (holder.getHeaders().containsKey(GlobalCons.G_REDELIVERY_MODE_HEADER)) {
+            init.getMetrics().redelivered(holder.getTopic());
+        }
         MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
         init.getInterceptor().storeMessage(holder);
-        if (subscription != null) {
+        if (subscription != null && subscription.getEntries().length > 0) {
             Integer tryIndex = 0;
             while (tryIndex < holder.getOptions().getRedeliveryCounter()) {
-                Receiver rc = subscription.getRoundRobinIterator().next();
+                ReceiverEntry entry = subscription.select(holder);
+                Receiver rc = entry.getReceiver();
+                long start = entry.onStart();
                 try {
-                    rc.receive(holder);
+                    init.getMetrics().receive(rc, holder);
                 } catch (Exception ex) {
-                    LOGGER.error("Receiver " + rc.getClass().getName() + " for topic " + holder.getTopic() + " throws exception", ex);
+                    LOGGER.error("Receiver {} for topic {} throws exception", rc.getClass().getName(), holder.getTopic(), ex);
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_HEADER, ex.getClass().getCanonicalName());
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_MESSAGE_HEADER, ex.getMessage());
                     ExceptionServices.handle(holder.getResponse(), ex);
@@ -66,6 +77,8 @@ public class CallMessageExecutor extends MessageExecutor {
                         init.getInterceptor().storeMessage(holder);
                     }
                     tryIndex++;
+                } finally {
+                    entry.onComplete(start);
                 }
                 if (holder.getOptions().getCallback() != null) {
                     holder.setStatus(MessageStatus.CALLBACK);
@@ -18,12 +18,14 @@
  */
 package tk.freaxsoftware.extras.bus.executor.impl;
 
+import java.util.Set;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageBusInit;
 import tk.freaxsoftware.extras.bus.MessageContext;
 import tk.freaxsoftware.extras.bus.MessageContextHolder;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.Receiver;
 import tk.freaxsoftware.extras.bus.Subscription;
 import tk.freaxsoftware.extras.bus.exceptions.ExceptionServices;
 import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
@@ -40,25 +42,32 @@ public class StoreMessageExecutor extends MessageExecutor {
         super(holder, subscription, init);
     }
 
+    public StoreMessageExecutor(MessageHolder holder, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
+        super(holder, subscription, patternReceivers, init);
+    }
+
     @Override
     public void exec() {
         if (isMessagePresent(holder.getId()) && !holder.getHeaders().containsKey(GlobalCons.G_REDELIVERY_MODE_HEADER)) {
             LOGGER.info("Message {} already present in storage, skipping;", holder.getId());
             return;
         }
+        if (holder.getHeaders().containsKey(GlobalCons.G_REDELIVERY_MODE_HEADER)) {
+            init.getMetrics().redelivered(holder.getTopic());
+        }
         MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
         init.getInterceptor().storeMessage(holder);
         if (subscription != null) {
-            subscription.getReceiversByMode(holder.getOptions().isBroadcast()).forEach(rc -> {
+            subscription.deliver(holder, rc -> {
                 try {
-                    rc.receive(holder);
+                    init.getMetrics().receive(rc, holder);
                     if (holder.getStatus() != MessageStatus.GROUPING && 
                             holder.getStatus() != MessageStatus.REMOTE_PROCESSING) {
                         holder.setStatus(MessageStatus.FINISHED);
                     }
                     init.getInterceptor().storeProcessedMessage(holder);
                 } catch (Exception ex) {
-                    LOGGER.error("Receiver " + rc.getClass().getName() + " for topic " + holder.getTopic() + " throws exception", ex);
+                    LOGGER.error("Receiver {} for topic {} throws exception", rc.getClass().getName(), holder.getTopic(), ex);
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_HEADER, ex.getClass().getCanonicalName());
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_MESSAGE_HEADER, ex.getMessage());
                     ExceptionServices.handle(holder.getResponse(), ex);
@@ -18,12 +18,14 @@
  */
 package tk.freaxsoftware.extras.bus.executor.impl;
 
+import java.util.Set;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageBusInit;
 import tk.freaxsoftware.extras.bus.MessageContext;
 import tk.freaxsoftware.extras.bus.MessageContextHolder;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.Receiver;
 import tk.freaxsoftware.extras.bus.Subscription;
 import tk.freaxsoftware.extras.bus.exceptions.ExceptionServices;
 import tk.freaxsoftware.extras.bus.executor.MessageExecutor;
@@ -40,15 +42,19 @@ public class VoidMessageExecutor extends MessageExecutor {
         super(holder, subscription, init);
     }
 
+    public VoidMessageExecutor(MessageHolder holder, Subscription subscription, Set<Receiver> patternReceivers, MessageBusInit init) {
+        super(holder, subscription, patternReceivers, init);
+    }
+
     @Override
     public void exec() {
         MessageContextHolder.setContext(new MessageContext(holder.getTrxId()));
         if (subscription != null) {
-            subscription.getReceiversByMode(holder.getOptions().isBroadcast()).forEach(rc -> {
+            subscription.deliver(holder, rc -> {
                 try {
-                    rc.receive(holder);
+                    init.getMetrics().receive(rc, holder);
                 } catch (Exception ex) {
-                    LOGGER.error("Receiver " + rc.getClass().getName() + " for topic " + holder.getTopic() + " throws exception", ex);
+                    LOGGER.error("Receiver {} for topic {} throws exception", rc.getClass().getName(), holder.getTopic(), ex);
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_HEADER, ex.getClass().getCanonicalName());
                     holder.getResponse().getHeaders().put(GlobalCons.G_EXCEPTION_MESSAGE_HEADER, ex.getMessage());
                     ExceptionServices.handle(holder.getResponse(), ex);
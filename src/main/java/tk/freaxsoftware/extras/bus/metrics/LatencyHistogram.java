@@ -0,0 +1,113 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets: each power of two range of nanoseconds 
+ * is divided by 8 sub-buckets, so recorded values are precise within 12.5%.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class LatencyHistogram {
+    
+    /**
+     * Bits of sub-bucket precision.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+    
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder total = new LongAdder();
+    
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+    
+    /**
+     * Records value.
+     * @param nanos latency in nanoseconds;
+     */
+    public void record(long nanos) {
+        long value = nanos > 0 ? nanos : 0;
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+    
+    /**
+     * Get snapshot of histogram. Percentiles are upper bounds of matched buckets.
+     * @return latency snapshot;
+     */
+    public MetricsSnapshot.Latency snapshot() {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            counts[index] = buckets.get(index);
+            sum += counts[index];
+        }
+        long maxValue = max.get();
+        long recorded = count.sum();
+        return new MetricsSnapshot.Latency(sum, recorded > 0 ? total.sum() / recorded : 0, 
+                percentile(counts, sum, 0.5, maxValue), percentile(counts, sum, 0.9, maxValue), 
+                percentile(counts, sum, 0.99, maxValue), maxValue);
+    }
+    
+    private static long percentile(long[] counts, long sum, double quantile, long maxValue) {
+        if (sum == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(sum * quantile);
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+    
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import tk.freaxsoftware.extras.bus.AsyncReceiver;
+import tk.freaxsoftware.extras.bus.BatchReceiver;
+import tk.freaxsoftware.extras.bus.BlockExecutor;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.NamedReceiver;
+import tk.freaxsoftware.extras.bus.Receiver;
+
+/**
+ * Registry of message bus metrics: counters and receive latency by topic and receiver, 
+ * transfers of the bridge by content encoding.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MessageMetrics {
+    
+    /**
+     * Max amount of topics to track separately, other topics are accounted together.
+     */
+    private static final int MAX_TOPICS = 4096;
+    
+    /**
+     * Name of metrics for topics beyond the limit and messages without topic.
+     */
+    public static final String OTHER_TOPICS = "*";
+    
+    private final Map<String, TopicMetrics> topics = new ConcurrentHashMap<>();
+    
+    private final TopicMetrics otherTopics = new TopicMetrics();
+    
+    /**
+     * Other topics metrics were recorded.
+     */
+    private volatile boolean otherTopicsUsed;
+    
+    private final Map<String, TransferMetrics> transfers = new ConcurrentHashMap<>();
+    
+    /**
+     * Records fired messages.
+     * @param topic topic of the messages;
+     * @param count amount of messages;
+     */
+    public void fired(String topic, int count) {
+        topic(topic).fired(count);
+    }
+    
+    /**
+     * Records redelivery of the message.
+     * @param topic topic of the message;
+     */
+    public void redelivered(String topic) {
+        topic(topic).redelivered();
+    }
+    
+    /**
+     * Delivers message to receiver and records result with time of processing.
+     * @param receiver receiver to deliver;
+     * @param holder message holder;
+     * @throws Exception exception of receiver;
+     */
+    public void receive(Receiver receiver, MessageHolder holder) throws Exception {
+        TopicMetrics topicMetrics = topic(holder.getTopic());
+        long start = System.nanoTime();
+        try {
+            receiver.receive(holder);
+        } catch (Exception ex) {
+            topicMetrics.record(name(receiver), 1, System.nanoTime() - start, false);
+            throw ex;
+        }
+        topicMetrics.record(name(receiver), 1, System.nanoTime() - start, true);
+    }
+    
+    /**
+     * Delivers message to async receiver and records result with time of processing on completion.
+     * @param receiver async receiver to deliver;
+     * @param holder message holder;
+     * @return future of message processing;
+     */
+    public CompletableFuture<Void> receiveAsync(AsyncReceiver receiver, MessageHolder holder) {
+        TopicMetrics topicMetrics = topic(holder.getTopic());
+        long start = System.nanoTime();
+        CompletableFuture<Void> future;
+        try {
+            future = receiver.receiveAsync(holder);
+        } catch (Exception ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+        future.whenComplete((ignored, ex) -> 
+                topicMetrics.record(name(receiver), 1, System.nanoTime() - start, ex == null));
+        return future;
+    }
+    
+    /**
+     * Delivers batch of messages to receiver and records result with time of processing.
+     * @param receiver batch receiver to deliver;
+     * @param holders message holders of the same topic;
+     * @throws Exception exception of receiver;
+     */
+    public void receiveBatch(BatchReceiver receiver, List<MessageHolder> holders) throws Exception {
+        TopicMetrics topicMetrics = topic(holders.get(0).getTopic());
+        long start = System.nanoTime();
+        try {
+            receiver.receiveBatch(holders);
+        } catch (Exception ex) {
+            topicMetrics.record(name(receiver), holders.size(), System.nanoTime() - start, false);
+            throw ex;
+        }
+        topicMetrics.record(name(receiver), holders.size(), System.nanoTime() - start, true);
+    }
+    
+    /**
+     * Records payload sent by the bridge.
+     * @param encoding content encoding of payload, identity if payload isn't compressed;
+     * @param rawBytes size of payload before encoding;
+     * @param wireBytes size of payload sent over the wire;
+     * @param nanos time of compression;
+     */
+    public void transferred(String encoding, long rawBytes, long wireBytes, long nanos) {
+        transfers.computeIfAbsent(encoding, key -> new TransferMetrics()).record(rawBytes, wireBytes, nanos);
+    }
+    
+    /**
+     * Get snapshot of metrics.
+     * @param executors executors to include by name;
+     * @return metrics snapshot;
+     */
+    public MetricsSnapshot snapshot(Map<String, BlockExecutor> executors) {
+        Map<String, MetricsSnapshot.Topic> topicSnapshots = new TreeMap<>();
+        topics.forEach((topic, metrics) -> topicSnapshots.put(topic, metrics.snapshot()));
+        if (otherTopicsUsed) {
+            topicSnapshots.put(OTHER_TOPICS, otherTopics.snapshot());
+        }
+        Map<String, MetricsSnapshot.Executor> executorSnapshots = new TreeMap<>();
+        executors.forEach((name, executor) -> executorSnapshots.put(name, 
+                new MetricsSnapshot.Executor(executor.getPendingCount(), executor.getDroppedCount())));
+        Map<String, MetricsSnapshot.Transfer> transferSnapshots = new TreeMap<>();
+        transfers.forEach((encoding, metrics) -> transferSnapshots.put(encoding, metrics.snapshot()));
+        return new MetricsSnapshot(topicSnapshots, executorSnapshots, transferSnapshots);
+    }
+    
+    /**
+     * Get name of receiver for metrics.
+     * @param receiver receiver;
+     * @return own name of named receiver or class name;
+     */
+    private static String name(Object receiver) {
+        return receiver instanceof NamedReceiver named ? named.getName() : receiver.getClass().getName();
+    }
+    
+    private TopicMetrics topic(String topic) {
+        if (topic == null) {
+            otherTopicsUsed = true;
+            return otherTopics;
+        }
+        TopicMetrics metrics = topics.get(topic);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (topics.size() >= MAX_TOPICS) {
+            otherTopicsUsed = true;
+            return otherTopics;
+        }
+        return topics.computeIfAbsent(topic, key -> new TopicMetrics());
+    }
+}
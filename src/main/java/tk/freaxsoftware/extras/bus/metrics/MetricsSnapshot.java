@@ -0,0 +1,277 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point in time snapshot of message bus metrics. Latency and compression time values are in nanoseconds.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MetricsSnapshot {
+    
+    /**
+     * Metrics by topic.
+     */
+    private final Map<String, Topic> topics;
+    
+    /**
+     * Queue metrics by executor name.
+     */
+    private final Map<String, Executor> executors;
+    
+    /**
+     * Payloads sent by the bridge by content encoding.
+     */
+    private final Map<String, Transfer> transfers;
+
+    public MetricsSnapshot(Map<String, Topic> topics, Map<String, Executor> executors) {
+        this(topics, executors, Collections.emptyMap());
+    }
+
+    public MetricsSnapshot(Map<String, Topic> topics, Map<String, Executor> executors, Map<String, Transfer> transfers) {
+        this.topics = topics;
+        this.executors = executors;
+        this.transfers = transfers;
+    }
+
+    public Map<String, Topic> getTopics() {
+        return topics;
+    }
+
+    public Map<String, Executor> getExecutors() {
+        return executors;
+    }
+
+    public Map<String, Transfer> getTransfers() {
+        return transfers;
+    }
+    
+    /**
+     * Metrics of the topic.
+     */
+    public static class Topic {
+        
+        private final long fired;
+        
+        private final long delivered;
+        
+        private final long failed;
+        
+        private final long redelivered;
+        
+        private final Latency latency;
+        
+        private final Map<String, Receiver> receivers;
+
+        public Topic(long fired, long delivered, long failed, long redelivered, Latency latency, Map<String, Receiver> receivers) {
+            this.fired = fired;
+            this.delivered = delivered;
+            this.failed = failed;
+            this.redelivered = redelivered;
+            this.latency = latency;
+            this.receivers = receivers;
+        }
+
+        public long getFired() {
+            return fired;
+        }
+
+        public long getDelivered() {
+            return delivered;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRedelivered() {
+            return redelivered;
+        }
+
+        public Latency getLatency() {
+            return latency;
+        }
+
+        public Map<String, Receiver> getReceivers() {
+            return receivers;
+        }
+    }
+    
+    /**
+     * Metrics of the receiver.
+     */
+    public static class Receiver {
+        
+        private final long delivered;
+        
+        private final long failed;
+        
+        private final Latency latency;
+
+        public Receiver(long delivered, long failed, Latency latency) {
+            this.delivered = delivered;
+            this.failed = failed;
+            this.latency = latency;
+        }
+
+        public long getDelivered() {
+            return delivered;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public Latency getLatency() {
+            return latency;
+        }
+    }
+    
+    /**
+     * Latency distribution.
+     */
+    public static class Latency {
+        
+        private final long count;
+        
+        private final long mean;
+        
+        private final long p50;
+        
+        private final long p90;
+        
+        private final long p99;
+        
+        private final long max;
+
+        public Latency(long count, long mean, long p50, long p90, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+    }
+    
+    /**
+     * Queue metrics of the executor.
+     */
+    public static class Executor {
+        
+        /**
+         * Async tasks queued or running.
+         */
+        private final long pending;
+        
+        /**
+         * Tasks dropped by overflow policy.
+         */
+        private final long dropped;
+
+        public Executor(long pending, long dropped) {
+            this.pending = pending;
+            this.dropped = dropped;
+        }
+
+        public long getPending() {
+            return pending;
+        }
+
+        public long getDropped() {
+            return dropped;
+        }
+    }
+    
+    /**
+     * Transfer metrics of payloads with content encoding.
+     */
+    public static class Transfer {
+        
+        /**
+         * Sent payloads.
+         */
+        private final long count;
+        
+        /**
+         * Size of payloads before encoding.
+         */
+        private final long rawBytes;
+        
+        /**
+         * Size of payloads sent over the wire.
+         */
+        private final long wireBytes;
+        
+        /**
+         * Total time of compression.
+         */
+        private final long compressionTime;
+
+        public Transfer(long count, long rawBytes, long wireBytes, long compressionTime) {
+            this.count = count;
+            this.rawBytes = rawBytes;
+            this.wireBytes = wireBytes;
+            this.compressionTime = compressionTime;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getRawBytes() {
+            return rawBytes;
+        }
+
+        public long getWireBytes() {
+            return wireBytes;
+        }
+
+        public long getCompressionTime() {
+            return compressionTime;
+        }
+    }
+}
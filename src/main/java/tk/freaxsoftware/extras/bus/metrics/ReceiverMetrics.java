@@ -0,0 +1,54 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery metrics of single receiver for topic.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ReceiverMetrics {
+    
+    private final LongAdder delivered = new LongAdder();
+    
+    private final LongAdder failed = new LongAdder();
+    
+    private final LatencyHistogram latency = new LatencyHistogram();
+    
+    /**
+     * Records delivery of messages.
+     * @param count amount of delivered messages;
+     * @param nanos time of receiver call;
+     * @param success receiver call completed without exception;
+     */
+    void record(int count, long nanos, boolean success) {
+        if (success) {
+            delivered.add(count);
+        } else {
+            failed.add(count);
+        }
+        latency.record(nanos);
+    }
+    
+    MetricsSnapshot.Receiver snapshot() {
+        return new MetricsSnapshot.Receiver(delivered.sum(), failed.sum(), latency.snapshot());
+    }
+}
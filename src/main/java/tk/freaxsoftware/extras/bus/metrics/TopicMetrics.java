@@ -0,0 +1,76 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of single topic: message counters, receive latency and metrics of each receiver.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class TopicMetrics {
+    
+    private final LongAdder fired = new LongAdder();
+    
+    private final LongAdder delivered = new LongAdder();
+    
+    private final LongAdder failed = new LongAdder();
+    
+    private final LongAdder redelivered = new LongAdder();
+    
+    private final LatencyHistogram latency = new LatencyHistogram();
+    
+    /**
+     * Receiver metrics by receiver name.
+     */
+    private final Map<String, ReceiverMetrics> receivers = new ConcurrentHashMap<>();
+    
+    void fired(int count) {
+        fired.add(count);
+    }
+    
+    void redelivered() {
+        redelivered.increment();
+    }
+    
+    void record(String receiverName, int count, long nanos, boolean success) {
+        if (success) {
+            delivered.add(count);
+        } else {
+            failed.add(count);
+        }
+        latency.record(nanos);
+        ReceiverMetrics receiverMetrics = receivers.get(receiverName);
+        if (receiverMetrics == null) {
+            receiverMetrics = receivers.computeIfAbsent(receiverName, key -> new ReceiverMetrics());
+        }
+        receiverMetrics.record(count, nanos, success);
+    }
+    
+    MetricsSnapshot.Topic snapshot() {
+        Map<String, MetricsSnapshot.Receiver> receiverSnapshots = new TreeMap<>();
+        receivers.forEach((receiverName, metrics) -> receiverSnapshots.put(receiverName, metrics.snapshot()));
+        return new MetricsSnapshot.Topic(fired.sum(), delivered.sum(), failed.sum(), redelivered.sum(), 
+                latency.snapshot(), receiverSnapshots);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transfer metrics of bridged payloads with single content encoding.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class TransferMetrics {
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder rawBytes = new LongAdder();
+    
+    private final LongAdder wireBytes = new LongAdder();
+    
+    private final LongAdder compressionNanos = new LongAdder();
+    
+    /**
+     * Records sent payload.
+     * @param raw size of payload before encoding;
+     * @param wire size of payload sent over the wire;
+     * @param nanos time of compression;
+     */
+    void record(long raw, long wire, long nanos) {
+        count.increment();
+        rawBytes.add(raw);
+        wireBytes.add(wire);
+        compressionNanos.add(nanos);
+    }
+    
+    MetricsSnapshot.Transfer snapshot() {
+        return new MetricsSnapshot.Transfer(count.sum(), rawBytes.sum(), wireBytes.sum(), compressionNanos.sum());
+    }
+}
@@ -57,7 +57,7 @@ public class GroupingReceiver implements Receiver {
 
     @Override
     public void receive(MessageHolder message) throws Exception {
-        LOGGER.info("Getting message {}", message.getTopic());
+        LOGGER.debug("Getting message {}", message.getTopic());
         synchronized(firstMessageCreatedLock) {
             if (firstMessageCreated == null) {
                 firstMessageCreated = message.getCreated();
@@ -66,7 +66,7 @@ public class GroupingReceiver implements Receiver {
         message.setStatus(MessageStatus.GROUPING);
         storage.saveMessage(message);
         Set<MessageHolder> unprocessed = storage.getGroupingMessagesByTopic(configEntry.getTopicSingle());
-        LOGGER.info("Unprocessed: {}", unprocessed.size());
+        LOGGER.debug("Unprocessed: {}", unprocessed.size());
         if (unprocessed.size() >= configEntry.getMaxSize()) {
             LOGGER.info("Start sending grouped messages to {} since max size of {} exceeded.", 
                     configEntry.getTopicList(), configEntry.getMaxSize());
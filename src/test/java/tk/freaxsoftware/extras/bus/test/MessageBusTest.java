@@ -18,6 +18,12 @@
  */
 package tk.freaxsoftware.extras.bus.test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -25,6 +31,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tk.freaxsoftware.extras.bus.AsyncReceiver;
+import tk.freaxsoftware.extras.bus.BatchReceiver;
 import tk.freaxsoftware.extras.bus.Callback;
 import tk.freaxsoftware.extras.bus.GlobalCons;
 import tk.freaxsoftware.extras.bus.MessageBus;
@@ -61,6 +69,12 @@ public class MessageBusTest {
     private static final String ROUND_ROBIN_MESSAGE = "Round.Robin.Test";
     private static final String ROUND_ROBIN_REDELIVERY = "Round.Robin.Redelivery";
     
+    private static final String BATCH_MESSAGE = "MessageTest.Batch.Message";
+    
+    private static final String BATCH_CALL_MESSAGE = "MessageTest.Batch.Call";
+    
+    private static final String ASYNC_MESSAGE = "MessageTest.Async.Message";
+    
     public MessageBusTest() {
     }
     
@@ -174,6 +188,53 @@ public class MessageBusTest {
         assertEquals(multiplied, new Integer(4));
     }
     
+    @Test
+    public void multiplieMessageCallAsync() throws Exception {
+        CompletableFuture<Integer> multiplied = MessageBus.fireCallAsync(MULTIPLIE_MESSAGE, null, 
+                MessageOptions.Builder.newInstance()
+                        .header(ARG_MULTIPLIE_DIGIT1, "3")
+                        .header(ARG_MULTIPLIE_DIGIT2, "2").build(), 
+                Integer.class);
+        assertEquals(Integer.valueOf(6), multiplied.get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void incorrectMessageCallAsync() throws Exception {
+        CompletableFuture<Object> result = MessageBus.fireCallAsync(INCORRECT_MESSAGE, null, 
+                MessageOptions.Builder.newInstance().build(), Object.class);
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Call without subscribers should fail");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof NoSubscriptionMessageException);
+        }
+    }
+    
+    @Test
+    public void asyncReceiverCallTimeout() throws Exception {
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        MessageBus.addSubscription(ASYNC_MESSAGE, new AsyncReceiver() {
+            @Override
+            public CompletableFuture<Void> receiveAsync(MessageHolder message) {
+                return pending;
+            }
+
+            @Override
+            public void receive(MessageHolder message) throws Exception {
+                receiveAsync(message).get();
+            }
+        });
+        CompletableFuture<Object> result = MessageBus.fireCallAsync(ASYNC_MESSAGE, null, 
+                MessageOptions.Builder.newInstance().build(), Object.class, 100, TimeUnit.MILLISECONDS);
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Call should be timed out");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof TimeoutException);
+        }
+        assertTrue(pending.isCancelled());
+    }
+    
     @Test
     public void patternMessageCall() throws Exception {
         Receiver recMock = Mockito.mock(Receiver.class);
@@ -182,4 +243,47 @@ public class MessageBusTest {
         Thread.sleep(2000);
         Mockito.verify(recMock).receive(Mockito.any(MessageHolder.class));
     }
+    
+    @Test
+    public void batchMessage() {
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger batchItems = new AtomicInteger();
+        AtomicInteger singleItems = new AtomicInteger();
+        MessageBus.addSubscription(BATCH_MESSAGE, (BatchReceiver<Integer>) (messages) -> {
+            batches.incrementAndGet();
+            batchItems.addAndGet(messages.size());
+        });
+        MessageBus.addSubscription(BATCH_MESSAGE, (MessageHolder holder) -> singleItems.incrementAndGet());
+        MessageBus.fireBatch(BATCH_MESSAGE, List.of(1, 2, 3), MessageOptions.Builder.newInstance().broadcast().build());
+        assertEquals(1, batches.get());
+        assertEquals(3, batchItems.get());
+        assertEquals(3, singleItems.get());
+    }
+    
+    @Test
+    public void batchCallFailureTest() {
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger callbacks = new AtomicInteger();
+        MessageBus.addSubscription(BATCH_CALL_MESSAGE, (MessageHolder holder) -> received.incrementAndGet());
+        MessageBus.fireBatch(BATCH_CALL_MESSAGE, List.of(1, 2, 3), MessageOptions.Builder.newInstance().deliveryCall(response -> {
+            if (callbacks.incrementAndGet() == 1) {
+                throw new IllegalStateException("Test failure");
+            }
+        }).build());
+        assertEquals(3, received.get());
+        assertEquals(3, callbacks.get());
+    }
+    
+    @Test
+    public void holderHeadersCopyTest() {
+        MessageOptions options = MessageOptions.Builder.newInstance().header(ARG_MULTIPLIE_DIGIT1, "2").build();
+        MessageHolder holder = new MessageHolder(MULTIPLIE_MESSAGE, options, null);
+        assertEquals("2", holder.getHeaders().get(ARG_MULTIPLIE_DIGIT1));
+        holder.getHeaders().put(ARG_MULTIPLIE_DIGIT2, "3");
+        holder.getHeaders().remove(ARG_MULTIPLIE_DIGIT1);
+        assertEquals(1, holder.getHeaders().size());
+        assertEquals(1, options.getHeaders().size());
+        assertEquals("2", options.getHeaders().get(ARG_MULTIPLIE_DIGIT1));
+        assertNotNull(holder.getCreated());
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import tk.freaxsoftware.extras.bus.MessageLogPolicy;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+import tk.freaxsoftware.extras.bus.config.LoggingConfig;
+
+/**
+ * Tests of message dispatch logging policy.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MessageLogPolicyTest {
+    
+    private static final String TOPIC = "Test.Log";
+    
+    /**
+     * Levels of logged messages.
+     */
+    private final List<Level> logged = new ArrayList<>();
+    
+    private final Logger logger = capturingLogger();
+    
+    @Test
+    public void defaultPolicyTest() {
+        MessageLogPolicy policy = new MessageLogPolicy(null);
+        policy.log(logger, null, "Default policy message {}", "null topic");
+        policy.log(logger, TOPIC, "Default policy message {}", TOPIC);
+        policy.log(logger, LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC, "Default policy message {}", LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC);
+        assertEquals(List.of(Level.INFO, Level.INFO), logged);
+    }
+    
+    @Test
+    public void nullTopicTest() {
+        MessageLogPolicy policy = new MessageLogPolicy(config());
+        for (int i = 0; i < 4; i++) {
+            policy.log(logger, null, "Sampled message {} of {}", i, "null topic");
+        }
+        assertEquals(List.of(Level.ERROR, Level.ERROR), logged);
+    }
+    
+    @Test
+    public void topicLevelTest() {
+        MessageLogPolicy policy = new MessageLogPolicy(config());
+        for (int i = 0; i < 4; i++) {
+            policy.log(logger, TOPIC, "Sampled message {} of {}", i, TOPIC);
+            policy.log(logger, "Test.Other", "Sampled message {} of {}", i, "Test.Other");
+        }
+        assertEquals(List.of(Level.WARN, Level.ERROR, Level.WARN, Level.ERROR), logged);
+    }
+    
+    private static LoggingConfig config() {
+        LoggingConfig config = new LoggingConfig();
+        config.setLevel(Level.ERROR);
+        config.setTopicLevels(Map.of(TOPIC, Level.WARN));
+        config.setSampleRate(2);
+        return config;
+    }
+    
+    private Logger capturingLogger() {
+        Logger mock = Mockito.mock(Logger.class);
+        Mockito.when(mock.isEnabledForLevel(Mockito.any())).thenReturn(true);
+        Mockito.when(mock.atLevel(Mockito.any())).thenAnswer(invocation -> {
+            logged.add(invocation.getArgument(0));
+            return Mockito.mock(LoggingEventBuilder.class);
+        });
+        return mock;
+    }
+}
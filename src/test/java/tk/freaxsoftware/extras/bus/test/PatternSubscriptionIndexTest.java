@@ -0,0 +1,66 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test;
+
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.PatternSubscriptionIndex;
+import tk.freaxsoftware.extras.bus.Receiver;
+
+/**
+ * Tests pattern subscription index.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class PatternSubscriptionIndexTest {
+    
+    private final Receiver orderReceiver = (holder) -> {};
+    private final Receiver anyReceiver = (holder) -> {};
+    private final Receiver orderItemReceiver = (holder) -> {};
+    
+    @Test
+    public void matchTest() {
+        PatternSubscriptionIndex index = new PatternSubscriptionIndex();
+        index.addReceiver("Order.*", orderReceiver);
+        index.addReceiver(".*", anyReceiver);
+        index.addReceiver("Order\\.Item\\..+", orderItemReceiver);
+        
+        assertEquals(Set.of(orderReceiver, anyReceiver), index.getReceivers("Order.Create"));
+        assertEquals(Set.of(orderReceiver, anyReceiver), index.getReceivers("Order"));
+        assertEquals(Set.of(orderReceiver, anyReceiver, orderItemReceiver), index.getReceivers("Order.Item.Add"));
+        assertEquals(Set.of(anyReceiver), index.getReceivers("Customer.Create"));
+    }
+    
+    @Test
+    public void invalidateTest() {
+        PatternSubscriptionIndex index = new PatternSubscriptionIndex(1);
+        assertTrue(index.getReceivers("Order.Create").isEmpty());
+        index.addReceiver("Order.*", orderReceiver);
+        assertEquals(Set.of(orderReceiver), index.getReceivers("Order.Create"));
+        assertEquals(Set.of(orderReceiver), index.getReceivers("Order.Delete"));
+        index.addReceiver("Order.C.*", orderItemReceiver);
+        assertEquals(Set.of(orderReceiver, orderItemReceiver), index.getReceivers("Order.Create"));
+        index.removeReceiver("Order.*", orderReceiver);
+        assertEquals(Set.of(orderItemReceiver), index.getReceivers("Order.Create"));
+        assertNull(index.getSubscription("Order.*"));
+        index.removeReceiver("Order.C.*", orderItemReceiver);
+        assertTrue(index.getReceivers("Order.Create").isEmpty());
+    }
+}
@@ -18,6 +18,8 @@
  */
 package tk.freaxsoftware.extras.bus.test.annotation;
 
+import java.io.IOException;
+import java.util.ServiceLoader;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -25,6 +27,8 @@ import org.junit.Test;
 import tk.freaxsoftware.extras.bus.MessageBus;
 import tk.freaxsoftware.extras.bus.MessageOptions;
 import tk.freaxsoftware.extras.bus.annotation.AnnotationUtil;
+import tk.freaxsoftware.extras.bus.annotation.ReceiveProcessor;
+import tk.freaxsoftware.extras.bus.annotation.ReceiverRegistry;
 import tk.freaxsoftware.extras.bus.exceptions.NoSubscriptionMessageException;
 
 /**
@@ -65,4 +69,27 @@ public class AnnotationUtilTest {
             Assert.assertNotNull(res.getContent());
         }).build());
     }
+    
+    @Test
+    public void testMessageReturn() throws Exception {
+        String result = MessageBus.fireCall(TestReceiver.TEST_MESSAGE_RETURN, "Content", 
+                MessageOptions.Builder.newInstance().build(), String.class);
+        Assert.assertEquals("Content", result);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testMessageException() throws Exception {
+        MessageBus.fireCall(TestReceiver.TEST_MESSAGE_EXCEPTION, null, MessageOptions.Builder.newInstance().build(), Object.class);
+    }
+    
+    @Test
+    public void testGeneratedRegistry() throws Exception {
+        Assert.assertTrue(ServiceLoader.load(ReceiverRegistry.class).stream()
+                .anyMatch(provider -> provider.type().getSimpleName().equals(TestReceiver.class.getSimpleName() + ReceiveProcessor.REGISTRY_SUFFIX)));
+        AnnotationUtil.unsubscribeReceiverClass(TestReceiver.class);
+        AnnotationUtil.subscribeReceiverClass(TestReceiver.class);
+        String result = MessageBus.fireCall(TestReceiver.TEST_MESSAGE_RETURN, "Registry", 
+                MessageOptions.Builder.newInstance().build(), String.class);
+        Assert.assertEquals("Registry", result);
+    }
 }
@@ -18,6 +18,7 @@
  */
 package tk.freaxsoftware.extras.bus.test.annotation;
 
+import java.io.IOException;
 import tk.freaxsoftware.extras.bus.MessageHolder;
 import tk.freaxsoftware.extras.bus.annotation.Receive;
 
@@ -31,6 +32,10 @@ public class TestReceiver {
     
     public static final String TEST_MESSAGE_ERROR = "Org.Reflection.Test.Error";
     
+    public static final String TEST_MESSAGE_RETURN = "Org.Reflection.Test.Return";
+    
+    public static final String TEST_MESSAGE_EXCEPTION = "Org.Reflection.Test.Exception";
+    
     public static final String TEST_PATTERN_MESSAGE = "Org.Reflection.*";
     
     public volatile Boolean calledPattern = false;
@@ -45,6 +50,17 @@ public class TestReceiver {
         
     }
     
+    @Receive(TEST_MESSAGE_RETURN)
+    public String testReturn(MessageHolder message) {
+        message.getResponse().setContent(message.getContent());
+        return (String) message.getContent();
+    }
+    
+    @Receive(TEST_MESSAGE_EXCEPTION)
+    public void testException(MessageHolder message) throws IOException {
+        throw new IOException("Test exception");
+    }
+    
     @Receive(TEST_PATTERN_MESSAGE)
     public void testPattern(MessageHolder message) {
         calledPattern = true;
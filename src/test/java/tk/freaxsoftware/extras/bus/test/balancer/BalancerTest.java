@@ -0,0 +1,218 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.balancer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.Subscription;
+import tk.freaxsoftware.extras.bus.WeightedReceiver;
+import tk.freaxsoftware.extras.bus.balancer.DeferredDelivery;
+import tk.freaxsoftware.extras.bus.balancer.LeastInFlightBalancer;
+import tk.freaxsoftware.extras.bus.balancer.LeastLoadedBalancer;
+import tk.freaxsoftware.extras.bus.balancer.ReceiverEntry;
+import tk.freaxsoftware.extras.bus.balancer.StickyBalancer;
+import tk.freaxsoftware.extras.bus.balancer.WeightedBalancer;
+
+/**
+ * Tests of point-to-point balancers.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BalancerTest {
+    
+    private static final String TOPIC = "Test.Balancer";
+    
+    private static final String KEY_HEADER = "Test.Key";
+    
+    @Test
+    public void roundRobinTest() throws Exception {
+        Subscription subscription = new Subscription(TOPIC);
+        int receiverCount = 4;
+        AtomicIntegerArray counters = new AtomicIntegerArray(receiverCount);
+        for (int i = 0; i < receiverCount; i++) {
+            final int index = i;
+            subscription.addReceiver(message -> counters.incrementAndGet(index));
+        }
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), null);
+        ExecutorService service = Executors.newFixedThreadPool(4);
+        int perThread = 1000;
+        for (int thread = 0; thread < 4; thread++) {
+            service.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    subscription.deliver(holder, rc -> {
+                        try {
+                            rc.receive(holder);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    });
+                }
+            });
+        }
+        service.shutdown();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        for (int i = 0; i < receiverCount; i++) {
+            assertEquals(perThread, counters.get(i));
+        }
+    }
+    
+    @Test
+    public void broadcastTest() {
+        Subscription subscription = new Subscription(TOPIC);
+        subscription.addReceiver(message -> {});
+        subscription.addReceiver(message -> {});
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().broadcast().build(), null);
+        List<Receiver> delivered = new ArrayList<>();
+        subscription.deliver(holder, delivered::add);
+        assertEquals(subscription.getReceivers(), delivered);
+    }
+    
+    @Test
+    public void receiversViewTest() {
+        Subscription subscription = new Subscription(TOPIC);
+        Receiver first = message -> {};
+        Receiver second = message -> {};
+        subscription.getReceivers().add(first);
+        subscription.getReceivers().add(second);
+        assertEquals(2, subscription.getEntries().length);
+        assertTrue(subscription.getReceivers().remove(first));
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().broadcast().build(), null);
+        List<Receiver> delivered = new ArrayList<>();
+        subscription.deliver(holder, delivered::add);
+        assertEquals(List.of(second), delivered);
+        subscription.getReceivers().clear();
+        assertTrue(subscription.getReceivers().isEmpty());
+        assertEquals(0, subscription.getEntries().length);
+    }
+    
+    @Test
+    public void leastInFlightTest() {
+        Subscription subscription = new Subscription(TOPIC, new LeastInFlightBalancer());
+        subscription.addReceiver(message -> {});
+        subscription.addReceiver(message -> {});
+        ReceiverEntry busy = subscription.getEntries()[0];
+        long start = busy.onStart();
+        for (int i = 0; i < 10; i++) {
+            assertSame(subscription.getEntries()[1], subscription.select(null));
+        }
+        busy.onComplete(start);
+        assertEquals(0, busy.getInFlight());
+    }
+    
+    @Test
+    public void leastLoadedTest() {
+        Subscription subscription = new Subscription(TOPIC, new LeastLoadedBalancer());
+        subscription.addReceiver(message -> {});
+        subscription.addReceiver(message -> {});
+        ReceiverEntry slow = subscription.getEntries()[0];
+        ReceiverEntry fast = subscription.getEntries()[1];
+        slow.onComplete(slow.onStart() - TimeUnit.MILLISECONDS.toNanos(100));
+        fast.onComplete(fast.onStart());
+        assertTrue(slow.getLatency() > fast.getLatency());
+        assertEquals(0, slow.getInFlight());
+        for (int i = 0; i < 10; i++) {
+            assertSame(fast, subscription.select(null));
+        }
+    }
+    
+    @Test
+    public void weightedTest() {
+        Subscription subscription = new Subscription(TOPIC, new WeightedBalancer());
+        subscription.addReceiver(new TestWeightedReceiver(1));
+        subscription.addReceiver(new TestWeightedReceiver(3));
+        Map<Receiver, Integer> counters = new HashMap<>();
+        for (int i = 0; i < 4000; i++) {
+            counters.merge(subscription.select(null).getReceiver(), 1, Integer::sum);
+        }
+        assertEquals(1000, counters.get(subscription.getReceivers().get(0)), 200);
+        assertEquals(3000, counters.get(subscription.getReceivers().get(1)), 200);
+    }
+    
+    @Test
+    public void stickyTest() {
+        Subscription subscription = new Subscription(TOPIC, new StickyBalancer(KEY_HEADER));
+        for (int i = 0; i < 4; i++) {
+            subscription.addReceiver(message -> {});
+        }
+        for (int key = 0; key < 20; key++) {
+            MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance()
+                    .header(KEY_HEADER, "key-" + key).build(), null);
+            Receiver first = subscription.select(holder).getReceiver();
+            for (int i = 0; i < 5; i++) {
+                assertSame(first, subscription.select(holder).getReceiver());
+            }
+        }
+    }
+    
+    private static class TestWeightedReceiver implements WeightedReceiver {
+        
+        private final int weight;
+
+        TestWeightedReceiver(int weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public int getWeight() {
+            return weight;
+        }
+
+        @Override
+        public void receive(MessageHolder message) throws Exception {
+        }
+    }
+    
+    @Test
+    public void deferredDeliveryTest() throws Exception {
+        Subscription subscription = new Subscription(TOPIC, new LeastInFlightBalancer());
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        subscription.addReceiver(message -> DeferredDelivery.defer(completion));
+        subscription.addReceiver(message -> {});
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), null);
+        ReceiverEntry detached = subscription.getEntries()[0];
+        subscription.deliver(holder, rc -> {
+            try {
+                rc.receive(holder);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertEquals(1, detached.getInFlight());
+        assertSame(subscription.getEntries()[1], subscription.select(holder));
+        Thread.sleep(20);
+        completion.complete(null);
+        assertEquals(0, detached.getInFlight());
+        assertTrue(detached.getLatency() >= TimeUnit.MILLISECONDS.toNanos(20));
+        DeferredDelivery.defer(new CompletableFuture<>());
+        subscription.deliver(holder, rc -> {});
+        assertEquals(0, subscription.getEntries()[1].getInFlight());
+    }
+}
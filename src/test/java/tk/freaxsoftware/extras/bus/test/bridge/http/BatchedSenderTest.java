@@ -0,0 +1,82 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.net.ServerSocket;
+import org.junit.After;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.bridge.http.EntryBatcher;
+import tk.freaxsoftware.extras.bus.bridge.http.MessagePeerSender;
+import tk.freaxsoftware.extras.bus.bridge.http.cross.CrossConnectionSender;
+import tk.freaxsoftware.extras.bus.config.http.BatchConfig;
+
+/**
+ * Tests of batched delivery by senders to unavailable node.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BatchedSenderTest {
+    
+    private static final String TOPIC = "Test.BatchedSender";
+    
+    @After
+    public void tearDown() {
+        EntryBatcher.setDefaultConfig(null);
+    }
+    
+    @Test
+    public void storedMessageTest() throws Exception {
+        MessagePeerSender sender = new MessagePeerSender("localhost", freePort());
+        sender.addSubscription(TOPIC);
+        sender.receive(new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().deliveryVoid().build(), "Test"));
+        try {
+            sender.receive(new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().deliveryNotification().build(), "Test"));
+            fail("Failed delivery of stored message isn't reported");
+        } catch (IllegalStateException ex) {
+            assertNotNull(ex.getCause());
+        }
+    }
+    
+    @Test
+    public void crossConnectionBreakTest() throws Exception {
+        CrossConnectionSender sender = new CrossConnectionSender("localhost", freePort());
+        sender.addSubscription(TOPIC);
+        MessageBus.addSubscription(TOPIC, sender);
+        assertTrue(MessageBus.isSubscribed(TOPIC));
+        for (int i = 0; i < 3; i++) {
+            sender.receive(new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().deliveryVoid().build(), "Test"));
+            Thread.sleep(500);
+        }
+        assertFalse(MessageBus.isSubscribed(TOPIC));
+    }
+    
+    private static int freePort() throws Exception {
+        BatchConfig batching = new BatchConfig();
+        batching.setMaxBatchSize(10);
+        batching.setLingerMillis(5);
+        EntryBatcher.setDefaultConfig(batching);
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
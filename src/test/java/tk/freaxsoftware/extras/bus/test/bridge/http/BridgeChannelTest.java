@@ -0,0 +1,180 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.bridge.http.BridgeChannel;
+import tk.freaxsoftware.extras.bus.bridge.http.ChannelRegistry;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.WireFormat;
+
+/**
+ * Tests of message exchange over channel between nodes.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BridgeChannelTest {
+    
+    private static final String ECHO_TOPIC = "Test.Channel.Echo";
+    
+    private static final String SINK_TOPIC = "Test.Channel.Sink";
+    
+    private final Receiver echo = (MessageHolder holder) -> holder.getResponse().setContent("pong:" + holder.getContent());
+    
+    private LoopChannel client;
+    
+    private LoopChannel server;
+    
+    @Before
+    public void setUp() {
+        client = new LoopChannel("server", 7000, WireFormat.BINARY);
+        server = new LoopChannel("client", 7001, WireFormat.JSON);
+        client.peer = server;
+        server.peer = client;
+        MessageBus.addSubscription(ECHO_TOPIC, echo);
+    }
+    
+    @After
+    public void tearDown() {
+        MessageBus.removeSubscription(ECHO_TOPIC, echo);
+        client.close();
+        server.close();
+    }
+    
+    @Test
+    public void callTest() throws Exception {
+        HttpMessageEntry response = client.send(buildEntry(ECHO_TOPIC, "ping", LocalHttpCons.Mode.CALLBACK)).get(5, TimeUnit.SECONDS);
+        assertEquals("pong:ping", response.getContent());
+        assertFalse(response.getHeaders().containsKey(LocalHttpCons.L_HTTP_CHANNEL_REPLY_HEADER));
+        assertEquals(0, client.getPendingCount());
+        
+        response = server.send(buildEntry(ECHO_TOPIC, "back", LocalHttpCons.Mode.CALLBACK)).get(5, TimeUnit.SECONDS);
+        assertEquals("pong:back", response.getContent());
+    }
+    
+    @Test
+    public void notificationTest() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<MessageHolder> received = new AtomicReference<>();
+        Receiver sink = (MessageHolder holder) -> {
+            received.set(holder);
+            latch.countDown();
+        };
+        MessageBus.addSubscription(SINK_TOPIC, sink);
+        try {
+            assertNull(client.send(buildEntry(SINK_TOPIC, "note", LocalHttpCons.Mode.ASYNC)).get(5, TimeUnit.SECONDS));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals("note", received.get().getContent());
+            assertEquals("client", received.get().getHeaders().get(LocalHttpCons.L_HTTP_NODE_IP_HEADER));
+        } finally {
+            MessageBus.removeSubscription(SINK_TOPIC, sink);
+        }
+    }
+    
+    @Test
+    public void noSubscribersTest() throws Exception {
+        try {
+            client.send(buildEntry("Test.Channel.Missing", "ping", LocalHttpCons.Mode.CALLBACK)).get(5, TimeUnit.SECONDS);
+            fail("Call without subscribers should fail");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    @Test
+    public void closeTest() throws Exception {
+        ChannelRegistry.register(client);
+        assertSame(client, ChannelRegistry.get("server", 7000));
+        server.dropFrames = true;
+        CompletableFuture<HttpMessageEntry> pending = client.send(buildEntry(ECHO_TOPIC, "ping", LocalHttpCons.Mode.CALLBACK));
+        client.close();
+        try {
+            pending.get(5, TimeUnit.SECONDS);
+            fail("Pending call should fail on closing");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IOException);
+        }
+        assertEquals(0, client.getPendingCount());
+        assertNull(ChannelRegistry.get("server", 7000));
+    }
+    
+    private HttpMessageEntry buildEntry(String topic, String content, LocalHttpCons.Mode mode) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(LocalHttpCons.L_HTTP_MODE_HEADER, mode.name());
+        return new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(), null, MessageStatus.NEW, topic, headers, content);
+    }
+    
+    /**
+     * Channel which passes frames to peer channel in memory.
+     */
+    private static class LoopChannel extends BridgeChannel {
+        
+        private LoopChannel peer;
+        
+        private volatile boolean open = true;
+        
+        private volatile boolean dropFrames;
+
+        LoopChannel(String address, Integer port, WireFormat wireFormat) {
+            super(address, port, wireFormat);
+        }
+
+        @Override
+        protected CompletableFuture<Void> writeFrame(byte[] frame, boolean binary) {
+            if (!open) {
+                return CompletableFuture.failedFuture(new IOException("Channel is closed"));
+            }
+            return CompletableFuture.runAsync(() -> {
+                if (!peer.dropFrames) {
+                    peer.receiveFrame(frame, binary);
+                }
+            });
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+            closed(null);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.time.Duration;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.bridge.http.BridgeHttpClient;
+import tk.freaxsoftware.extras.bus.config.http.ConnectionConfig;
+
+/**
+ * Tests of bridge HTTP client.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BridgeHttpClientTest {
+    
+    @After
+    public void tearDown() {
+        BridgeHttpClient.closeShared();
+    }
+    
+    @Test
+    public void reconfigureTest() throws Exception {
+        ConnectionConfig config = new ConnectionConfig();
+        config.setNonBlocking(true);
+        BridgeHttpClient.configureShared(config);
+        BridgeHttpClient previous = BridgeHttpClient.getShared();
+        BridgeHttpClient.configureShared(config);
+        assertNotSame(previous, BridgeHttpClient.getShared());
+        assertTrue(previous.getAsyncClient().isTerminated());
+        assertFalse(BridgeHttpClient.getShared().getAsyncClient().isTerminated());
+    }
+    
+    @Test
+    public void requestTimeoutTest() {
+        BridgeHttpClient unlimited = new BridgeHttpClient(null);
+        assertNull(unlimited.getRequestTimeout());
+        unlimited.close();
+        ConnectionConfig config = new ConnectionConfig();
+        config.setSocketTimeout(5);
+        BridgeHttpClient limited = new BridgeHttpClient(config);
+        assertEquals(Duration.ofSeconds(5), limited.getRequestTimeout());
+        limited.close();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.bridge.http.ContentAdapterCache;
+import tk.freaxsoftware.extras.bus.bridge.http.TypeResolver;
+import tk.freaxsoftware.extras.bus.bridge.http.util.GsonUtils;
+
+/**
+ * Testing cache of content adapters.
+ * @author Stanislav Nepochatov
+ */
+public class ContentAdapterCacheTest {
+    
+    @Test
+    public void cachedByTypeName() throws Exception {
+        TypeResolver.register("CachedMap", new TypeToken<HashMap<String, BigDecimal>>() {});
+        ContentAdapterCache cache = new ContentAdapterCache(GsonUtils.getGson());
+        TypeAdapter<Object> adapter = cache.getAdapter("CachedMap", "java.util.HashMap");
+        Assert.assertSame(adapter, cache.getAdapter("CachedMap", null));
+        Map<String, BigDecimal> content = (Map<String, BigDecimal>) adapter.fromJson("{\"a\":1.5}");
+        Assert.assertEquals(content.get("a"), new BigDecimal("1.5"));
+        
+        TypeResolver.register("CachedMap", new TypeToken<HashMap<String, String>>() {});
+        TypeAdapter<Object> reregistered = cache.getAdapter("CachedMap", null);
+        Assert.assertNotSame(adapter, reregistered);
+        Assert.assertEquals(((Map) reregistered.fromJson("{\"a\":1.5}")).get("a"), "1.5");
+    }
+    
+    @Test
+    public void cachedByClass() throws Exception {
+        ContentAdapterCache cache = new ContentAdapterCache(GsonUtils.getGson());
+        TypeAdapter<Object> adapter = cache.getAdapter(null, "java.math.BigDecimal");
+        Assert.assertSame(adapter, cache.getAdapter("NotRegistered", "java.math.BigDecimal"));
+        Assert.assertEquals(adapter.fromJson("2.5"), new BigDecimal("2.5"));
+        Assert.assertSame(cache.getAdapter(ArrayList.class), cache.getAdapter(ArrayList.class));
+        Assert.assertNull(cache.getAdapter(null, null));
+    }
+    
+    @Test
+    public void boundedSize() throws Exception {
+        ContentAdapterCache cache = new ContentAdapterCache(GsonUtils.getGson(), 1);
+        TypeAdapter<Object> first = cache.getAdapter(null, "java.math.BigDecimal");
+        Assert.assertSame(first, cache.getAdapter(null, "java.math.BigDecimal"));
+        Assert.assertNotNull(cache.getAdapter(null, "java.lang.String"));
+        Assert.assertSame(first, cache.getAdapter(null, "java.math.BigDecimal"));
+    }
+    
+    @Test(expected = ClassNotFoundException.class)
+    public void unknownClass() throws Exception {
+        new ContentAdapterCache(GsonUtils.getGson()).getAdapter(null, "tk.freaxsoftware.Missing");
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.bridge.http.AbstractHttpSender;
+import tk.freaxsoftware.extras.bus.bridge.http.CorrelationRegistry;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+
+/**
+ * Tests of correlated calls registry.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class CorrelationRegistryTest {
+    
+    private static final String TOPIC = "Test.Correlation";
+    
+    @After
+    public void tearDown() {
+        CorrelationRegistry.disable();
+    }
+    
+    @Test
+    public void completeTest() throws Exception {
+        CorrelationRegistry.enable(7000, null);
+        assertTrue(CorrelationRegistry.isEnabled());
+        HttpMessageEntry request = new HttpMessageEntry();
+        request.setTopic(TOPIC);
+        request.setHeaders(new HashMap<>());
+        CompletableFuture<HttpMessageEntry> pending = CorrelationRegistry.register(request);
+        assertEquals(LocalHttpCons.Mode.CORRELATED.name(), request.getHeaders().get(LocalHttpCons.L_HTTP_MODE_HEADER));
+        assertEquals("7000", request.getHeaders().get(LocalHttpCons.L_HTTP_REPLY_PORT_HEADER));
+        String correlationId = (String) request.getHeaders().get(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER);
+        assertNotNull(correlationId);
+        
+        HttpMessageEntry response = new HttpMessageEntry();
+        response.setTopic(TOPIC);
+        response.setHeaders(new HashMap<>());
+        response.getHeaders().put(LocalHttpCons.L_HTTP_CORRELATION_ID_HEADER, correlationId);
+        assertTrue(CorrelationRegistry.complete(response));
+        assertSame(response, pending.get(1, TimeUnit.SECONDS));
+        assertFalse(CorrelationRegistry.complete(response));
+    }
+    
+    @Test
+    public void timeoutTest() throws Exception {
+        CorrelationRegistry.enable(7000, 1);
+        HttpMessageEntry request = new HttpMessageEntry();
+        request.setTopic(TOPIC);
+        request.setHeaders(new HashMap<>());
+        CompletableFuture<HttpMessageEntry> pending = CorrelationRegistry.register(request);
+        try {
+            pending.get(5, TimeUnit.SECONDS);
+            fail("Pending call should be timed out");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof TimeoutException);
+        }
+        assertEquals(0, CorrelationRegistry.getPendingCount());
+    }
+    
+    @Test
+    public void refusedCallTest() throws Exception {
+        CorrelationRegistry.enable(7000, null);
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RefusedSender sender = new RefusedSender(port);
+        try {
+            sender.send(callEntry());
+            fail("Refused connection should be reported");
+        } catch (IOException ex) {
+            //Expected.
+        }
+        assertEquals(0, CorrelationRegistry.getPendingCount());
+        try {
+            sender.sendAsync(callEntry()).get(5, TimeUnit.SECONDS);
+            fail("Refused connection should be reported");
+        } catch (ExecutionException ex) {
+            //Expected.
+        }
+        assertEquals(0, CorrelationRegistry.getPendingCount());
+    }
+    
+    private static HttpMessageEntry callEntry() {
+        HttpMessageEntry request = new HttpMessageEntry();
+        request.setTopic(TOPIC);
+        request.setHeaders(new HashMap<>());
+        request.getHeaders().put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.CALLBACK.name());
+        return request;
+    }
+    
+    /**
+     * Sender to port without server.
+     */
+    private static class RefusedSender extends AbstractHttpSender {
+        
+        private final int port;
+
+        RefusedSender(int port) {
+            this.port = port;
+        }
+        
+        HttpMessageEntry send(HttpMessageEntry entry) throws Exception {
+            return sendEntry("127.0.0.1", port, entry);
+        }
+        
+        CompletableFuture<HttpMessageEntry> sendAsync(HttpMessageEntry entry) {
+            return sendEntryAsync("127.0.0.1", port, entry);
+        }
+    }
+}
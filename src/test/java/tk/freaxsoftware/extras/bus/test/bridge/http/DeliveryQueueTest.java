@@ -0,0 +1,115 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.bridge.http.DeliveryQueue;
+
+/**
+ * Tests of queue of non-blocking deliveries.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class DeliveryQueueTest {
+    
+    @Test
+    public void activeLimitTest() throws Exception {
+        DeliveryQueue queue = new DeliveryQueue(10, 2);
+        List<CompletableFuture<Void>> started = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queue.submit(() -> {
+                CompletableFuture<Void> delivery = new CompletableFuture<>();
+                started.add(delivery);
+                return delivery;
+            }, ex -> fail("Delivery shouldn't fail"));
+        }
+        assertEquals(2, started.size());
+        assertEquals(2, queue.getActiveCount());
+        assertEquals(5, queue.getPendingCount());
+        
+        started.get(0).complete(null);
+        assertEquals(3, started.size());
+        assertEquals(2, queue.getActiveCount());
+        assertEquals(4, queue.getPendingCount());
+        
+        for (int i = 1; i < 5; i++) {
+            started.get(i).complete(null);
+        }
+        assertEquals(5, started.size());
+        assertEquals(0, queue.getActiveCount());
+        assertEquals(0, queue.getPendingCount());
+    }
+    
+    @Test
+    public void failedDeliveryTest() throws Exception {
+        DeliveryQueue queue = new DeliveryQueue(1, 1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        queue.submit(() -> CompletableFuture.failedFuture(new IllegalStateException("Node is down")), error::set);
+        assertTrue(error.get() instanceof IllegalStateException);
+        assertEquals(0, queue.getPendingCount());
+    }
+    
+    @Test
+    public void pendingLimitTest() throws Exception {
+        DeliveryQueue queue = new DeliveryQueue(1, 1);
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        queue.submit(() -> first, ex -> {});
+        CompletableFuture<Void> submitted = CompletableFuture.runAsync(() -> {
+            try {
+                queue.submit(() -> CompletableFuture.completedFuture(null), ex -> {});
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(submitted.isDone());
+        first.complete(null);
+        submitted.get(5, TimeUnit.SECONDS);
+        assertEquals(0, queue.getPendingCount());
+    }
+    
+    @Test
+    public void completedDeliveriesTest() throws Exception {
+        int count = 5000;
+        DeliveryQueue queue = new DeliveryQueue(count + 1, 1);
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        queue.submit(() -> first, ex -> fail("Delivery shouldn't fail"));
+        AtomicInteger delivered = new AtomicInteger();
+        AtomicInteger maxDepth = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            queue.submit(() -> {
+                delivered.incrementAndGet();
+                maxDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+                return CompletableFuture.completedFuture(null);
+            }, ex -> fail("Delivery shouldn't fail"));
+        }
+        int depth = Thread.currentThread().getStackTrace().length;
+        first.complete(null);
+        assertEquals(count, delivered.get());
+        assertEquals(0, queue.getPendingCount());
+        assertTrue(maxDepth.get() < depth + 100);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.bridge.http.EntryBatcher;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.config.http.BatchConfig;
+
+/**
+ * Testing outbound batcher of message entries.
+ * @author Stanislav Nepochatov
+ */
+public class EntryBatcherTest {
+    
+    @Test
+    public void flushByMaxSize() throws Exception {
+        List<List<HttpMessageEntry>> batches = new CopyOnWriteArrayList<>();
+        EntryBatcher batcher = new EntryBatcher(config(3, 60000), batch -> {
+            batches.add(batch);
+            return CompletableFuture.completedFuture(null);
+        });
+        CompletableFuture<Void> first = batcher.add(entry("Test1"));
+        batcher.add(entry("Test2"));
+        Assert.assertFalse(first.isDone());
+        Assert.assertEquals(batcher.getPendingCount(), 2);
+        CompletableFuture<Void> third = batcher.add(entry("Test3"));
+        Assert.assertSame(first, third);
+        first.get(1, TimeUnit.SECONDS);
+        Assert.assertEquals(batches.size(), 1);
+        Assert.assertEquals(batches.get(0).size(), 3);
+        Assert.assertEquals(batches.get(0).get(2).getTopic(), "Test3");
+        Assert.assertEquals(batcher.getPendingCount(), 0);
+        Assert.assertNotSame(first, batcher.add(entry("Test4")));
+    }
+    
+    @Test
+    public void flushByLinger() throws Exception {
+        List<List<HttpMessageEntry>> batches = new CopyOnWriteArrayList<>();
+        EntryBatcher batcher = new EntryBatcher(config(100, 20), batch -> {
+            batches.add(batch);
+            return CompletableFuture.completedFuture(null);
+        });
+        CompletableFuture<Void> delivery = batcher.add(entry("Test1"));
+        batcher.add(entry("Test2"));
+        delivery.get(1, TimeUnit.SECONDS);
+        Assert.assertEquals(batches.size(), 1);
+        Assert.assertEquals(batches.get(0).size(), 2);
+    }
+    
+    @Test
+    public void failedBatch() throws Exception {
+        EntryBatcher batcher = new EntryBatcher(config(2, 60000), batch -> CompletableFuture.failedFuture(new IllegalStateException("Node is down")));
+        CompletableFuture<Void> delivery = batcher.add(entry("Test1"));
+        batcher.flush();
+        try {
+            delivery.get(1, TimeUnit.SECONDS);
+            Assert.fail("Batch should fail");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    private BatchConfig config(int maxBatchSize, int lingerMillis) {
+        BatchConfig config = new BatchConfig();
+        config.setMaxBatchSize(maxBatchSize);
+        config.setLingerMillis(lingerMillis);
+        return config;
+    }
+    
+    private HttpMessageEntry entry(String topic) {
+        HttpMessageEntry entry = new HttpMessageEntry();
+        entry.setTopic(topic);
+        return entry;
+    }
+}
@@ -22,6 +22,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
@@ -106,6 +108,45 @@ public class HttpMessageEntryUtilTest {
         Assert.assertEquals(entry.getContent().get("Item3"), new Entry("Cat2", 13.45f));
     }
     
+    @Test
+    public void streamingRoundTripByRegType() throws Exception {
+        TypeResolver.register(ENTRY_TYPE_NAME, new TypeToken<HashMap<String, Entry>>() {});
+        Map<String, Entry> mapOfEntry = new HashMap();
+        mapOfEntry.put("Item1", new Entry("Cat1", 3.14f));
+        mapOfEntry.put("Item2", new Entry("Cat2", 13.45f));
+        Map<String, String> headers = new HashMap();
+        headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, ENTRY_TYPE_NAME);
+        HttpMessageEntry<Map<String, Entry>> source = new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(), null, MessageStatus.PROCESSING, "Message.Topic.Test", headers, mapOfEntry);
+        StringWriter writer = new StringWriter();
+        util.serialize(source, writer);
+        HttpMessageEntry<Map<String, Entry>> entry = util.deserialize(new StringReader(writer.toString()));
+        Assert.assertEquals(entry.getId(), source.getId());
+        Assert.assertEquals(entry.getTrxId(), source.getTrxId());
+        Assert.assertEquals(entry.getCreated(), source.getCreated());
+        Assert.assertNull(entry.getUpdated());
+        Assert.assertEquals(entry.getTopic(), source.getTopic());
+        Assert.assertEquals(entry.getTypeName(), ENTRY_TYPE_NAME);
+        Assert.assertEquals(entry.getContent(), mapOfEntry);
+    }
+    
+    @Test
+    public void streamingContentBeforeType() throws Exception {
+        String json = "{\"content\":\"2.5\",\"id\":\"1\",\"trxId\":\"2\",\"created\":\"2020-01-01T00:00:00Z\","
+                + "\"status\":\"PROCESSING\",\"topic\":\"Test\",\"unknown\":{\"a\":[1,2]},\"headers\":{},"
+                + "\"fullTypeName\":\"java.math.BigDecimal\"}";
+        HttpMessageEntry entry = util.deserialize(new StringReader(json));
+        Assert.assertEquals(entry.getContent(), new BigDecimal("2.5"));
+        Assert.assertEquals(entry.getTopic(), "Test");
+    }
+    
+    @Test(expected = ClassNotFoundException.class)
+    public void streamingUnknownClass() throws Exception {
+        String json = "{\"id\":\"1\",\"trxId\":\"2\",\"created\":\"2020-01-01T00:00:00Z\",\"status\":\"PROCESSING\","
+                + "\"topic\":\"Test\",\"headers\":{},\"fullTypeName\":\"tk.freaxsoftware.Missing\",\"content\":{}}";
+        util.deserialize(new StringReader(json));
+    }
+    
     @Test
     @Ignore
     public void serializationTestByClass() {
@@ -0,0 +1,156 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import com.google.gson.reflect.TypeToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.Assert;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageStatus;
+import tk.freaxsoftware.extras.bus.bridge.http.HttpMessageEntry;
+import tk.freaxsoftware.extras.bus.bridge.http.LocalHttpCons;
+import tk.freaxsoftware.extras.bus.bridge.http.TypeResolver;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.BinaryMessageCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodec;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.MessageCodecs;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.StringSetCodec;
+
+/**
+ * Testing wire codecs of message entries and their negotiation.
+ * @author Stanislav Nepochatov
+ */
+public class MessageCodecTest {
+    
+    @Test
+    public void binaryRoundTripByClass() throws Exception {
+        Map<String, String> headers = new HashMap();
+        headers.put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.CALLBACK.name());
+        headers.put("Custom.Header", "Value");
+        HttpMessageEntry source = new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(ZoneId.of("Europe/Kyiv")), ZonedDateTime.now(), MessageStatus.PROCESSING, "Test.Topic", headers, new BigDecimal("3.14"));
+        HttpMessageEntry entry = roundTrip(MessageCodecs.BINARY, source);
+        Assert.assertEquals(entry.getId(), source.getId());
+        Assert.assertEquals(entry.getTrxId(), source.getTrxId());
+        Assert.assertEquals(entry.getCreated(), source.getCreated());
+        Assert.assertEquals(entry.getUpdated(), source.getUpdated());
+        Assert.assertEquals(entry.getStatus(), MessageStatus.PROCESSING);
+        Assert.assertEquals(entry.getTopic(), "Test.Topic");
+        Assert.assertEquals(entry.getHeaders(), headers);
+        Assert.assertEquals(entry.getFullTypeName(), "java.math.BigDecimal");
+        Assert.assertNull(entry.getTypeName());
+        Assert.assertEquals(entry.getContent(), new BigDecimal("3.14"));
+    }
+    
+    @Test
+    public void binaryRoundTripByContentCodec() throws Exception {
+        TypeResolver.register(LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_TOKEN, new StringSetCodec());
+        Set<String> subscriptions = new HashSet();
+        subscriptions.add("Test1");
+        subscriptions.add("Test2");
+        HttpMessageEntry entry = roundTrip(MessageCodecs.BINARY, heartbeat(subscriptions));
+        Assert.assertEquals(entry.getTypeName(), LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME);
+        Assert.assertEquals(entry.getContent(), subscriptions);
+        Assert.assertNull(entry.getUpdated());
+    }
+    
+    @Test
+    public void binaryRoundTripByRegType() throws Exception {
+        TypeResolver.register("MapOfDecimal", new TypeToken<HashMap<String, BigDecimal>>() {});
+        Map<String, String> headers = new HashMap();
+        headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, "MapOfDecimal");
+        Map<String, BigDecimal> content = new HashMap();
+        content.put("Item1", BigDecimal.ONE);
+        content.put("Item2", BigDecimal.TEN);
+        HttpMessageEntry source = new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(), null, MessageStatus.NEW, "Test.Topic", headers, content);
+        HttpMessageEntry entry = roundTrip(MessageCodecs.BINARY, source);
+        Assert.assertEquals(entry.getTypeName(), "MapOfDecimal");
+        Assert.assertEquals(entry.getContent(), content);
+    }
+    
+    @Test
+    public void binaryIsSmallerThanJson() throws Exception {
+        TypeResolver.register(LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_TOKEN, new StringSetCodec());
+        Set<String> subscriptions = new HashSet();
+        subscriptions.add("Test1");
+        HttpMessageEntry source = heartbeat(subscriptions);
+        Assert.assertTrue(encode(MessageCodecs.BINARY, source).length * 2 < encode(MessageCodecs.JSON, source).length);
+    }
+    
+    @Test
+    public void batchRoundTrip() throws Exception {
+        TypeResolver.register(LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_TOKEN, new StringSetCodec());
+        Set<String> subscriptions = new HashSet();
+        subscriptions.add("Test1");
+        List<HttpMessageEntry> batch = new ArrayList();
+        batch.add(heartbeat(subscriptions));
+        batch.add(new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(), null, MessageStatus.NEW, "Test.Topic", new HashMap(), new BigDecimal("1.5")));
+        for (MessageCodec codec: new MessageCodec[] {MessageCodecs.JSON, MessageCodecs.BINARY}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            codec.encodeBatch(batch, out);
+            List<HttpMessageEntry> entries = codec.decodeBatch(new ByteArrayInputStream(out.toByteArray()));
+            Assert.assertEquals(entries.size(), 2);
+            Assert.assertEquals(entries.get(0).getContent(), subscriptions);
+            Assert.assertEquals(entries.get(1).getTopic(), "Test.Topic");
+            Assert.assertEquals(entries.get(1).getContent(), new BigDecimal("1.5"));
+        }
+    }
+    
+    @Test
+    public void negotiation() {
+        Assert.assertSame(MessageCodecs.forContentType(null), MessageCodecs.JSON);
+        Assert.assertSame(MessageCodecs.forContentType("application/json; charset=UTF-8"), MessageCodecs.JSON);
+        Assert.assertSame(MessageCodecs.forContentType(BinaryMessageCodec.CONTENT_TYPE), MessageCodecs.BINARY);
+        Assert.assertSame(MessageCodecs.negotiate(MessageCodecs.BINARY, null), MessageCodecs.JSON);
+        Assert.assertSame(MessageCodecs.negotiate(MessageCodecs.BINARY, "application/json"), MessageCodecs.JSON);
+        Assert.assertSame(MessageCodecs.negotiate(MessageCodecs.BINARY, MessageCodecs.ACCEPTED_TYPES), MessageCodecs.BINARY);
+        Assert.assertSame(MessageCodecs.negotiate(MessageCodecs.JSON, MessageCodecs.ACCEPTED_TYPES), MessageCodecs.JSON);
+    }
+    
+    private HttpMessageEntry heartbeat(Set<String> subscriptions) {
+        Map<String, String> headers = new HashMap();
+        headers.put(LocalHttpCons.L_HTTP_NODE_REGISTERED_TYPE_HEADER, LocalHttpCons.L_HTTP_HEARTBEAT_TYPE_NAME);
+        headers.put(LocalHttpCons.L_HTTP_MODE_HEADER, LocalHttpCons.Mode.BROADCAST.name());
+        headers.put(LocalHttpCons.L_HTTP_NODE_PORT_HEADER, "8080");
+        return new HttpMessageEntry(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 
+                ZonedDateTime.now(), null, MessageStatus.NEW, LocalHttpCons.L_HTTP_HEARTBEAT_TOPIC, headers, subscriptions);
+    }
+    
+    private byte[] encode(MessageCodec codec, HttpMessageEntry entry) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(entry, out);
+        return out.toByteArray();
+    }
+    
+    private HttpMessageEntry roundTrip(MessageCodec codec, HttpMessageEntry entry) throws Exception {
+        return codec.decode(new ByteArrayInputStream(encode(codec, entry)));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.bridge.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.After;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.bridge.http.MessageServer;
+import tk.freaxsoftware.extras.bus.bridge.http.PayloadCompressor;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.ContentEncoding;
+import tk.freaxsoftware.extras.bus.bridge.http.codec.PayloadTooLargeException;
+import tk.freaxsoftware.extras.bus.config.http.CompressionConfig;
+import tk.freaxsoftware.extras.bus.config.http.ServerConfig;
+import tk.freaxsoftware.extras.bus.metrics.MetricsSnapshot;
+
+/**
+ * Tests of compression of bridged payloads.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class PayloadCompressorTest {
+    
+    @After
+    public void tearDown() {
+        PayloadCompressor.setDefaultConfig(null);
+    }
+    
+    private static byte[] payload(int size) {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < size) {
+            builder.append("{\"topic\":\"Test.Compression\",\"index\":").append(builder.length()).append("},");
+        }
+        return builder.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    public void roundTripTest() throws Exception {
+        byte[] payload = payload(64 * 1024);
+        for (ContentEncoding encoding: ContentEncoding.values()) {
+            byte[] compressed = encoding.compress(payload);
+            assertTrue(compressed.length < payload.length / 4);
+            byte[] restored = ContentEncoding.decode(encoding.getName(), new ByteArrayInputStream(compressed)).readAllBytes();
+            assertArrayEquals(payload, restored);
+        }
+        assertArrayEquals(payload, ContentEncoding.decode(null, new ByteArrayInputStream(payload)).readAllBytes());
+        assertArrayEquals(payload, ContentEncoding.decode(ContentEncoding.IDENTITY, new ByteArrayInputStream(payload)).readAllBytes());
+    }
+    
+    @Test(expected = IOException.class)
+    public void unsupportedEncodingTest() throws Exception {
+        ContentEncoding.forName("br");
+    }
+    
+    @Test
+    public void selectTest() {
+        CompressionConfig config = new CompressionConfig();
+        config.setEncoding(ContentEncoding.DEFLATE);
+        config.setThreshold(1024);
+        PayloadCompressor compressor = new PayloadCompressor(config);
+        assertNull(compressor.select(1023, ContentEncoding.ACCEPTED_ENCODINGS));
+        assertNull(compressor.select(4096, null));
+        assertNull(compressor.select(4096, "gzip"));
+        assertEquals(ContentEncoding.DEFLATE, compressor.select(1024, ContentEncoding.ACCEPTED_ENCODINGS));
+        assertEquals(ContentEncoding.DEFLATE, compressor.select(4096, "gzip;q=1.0, Deflate;q=0.5"));
+        assertEquals(ContentEncoding.GZIP, new PayloadCompressor(new CompressionConfig()).getEncoding());
+        assertEquals(PayloadCompressor.DEFAULT_THRESHOLD, new PayloadCompressor(new CompressionConfig()).getThreshold());
+    }
+    
+    @Test
+    public void metricsTest() throws Exception {
+        PayloadCompressor compressor = new PayloadCompressor(new CompressionConfig());
+        MetricsSnapshot.Transfer before = MessageBus.getMetrics().snapshot(Map.of()).getTransfers().get("gzip");
+        byte[] payload = payload(32 * 1024);
+        byte[] compressed = compressor.encode(payload, compressor.select(payload.length, ContentEncoding.ACCEPTED_ENCODINGS));
+        MetricsSnapshot.Transfer after = MessageBus.getMetrics().snapshot(Map.of()).getTransfers().get("gzip");
+        assertEquals((before != null ? before.getCount() : 0) + 1, after.getCount());
+        assertEquals((before != null ? before.getRawBytes() : 0) + payload.length, after.getRawBytes());
+        assertEquals((before != null ? before.getWireBytes() : 0) + compressed.length, after.getWireBytes());
+        assertTrue(after.getCompressionTime() > 0);
+    }
+    
+    @Test
+    public void decodeLimitTest() throws Exception {
+        byte[] payload = payload(64 * 1024);
+        for (ContentEncoding encoding: ContentEncoding.values()) {
+            byte[] compressed = encoding.compress(payload);
+            assertArrayEquals(payload, ContentEncoding.decode(encoding.getName(), new ByteArrayInputStream(compressed), payload.length).readAllBytes());
+            try {
+                ContentEncoding.decode(encoding.getName(), new ByteArrayInputStream(compressed), payload.length - 1).readAllBytes();
+                fail("Limit of decoded payload isn't applied");
+            } catch (PayloadTooLargeException ex) {
+                assertEquals(payload.length - 1, ex.getMaxSize());
+            }
+        }
+        assertEquals(PayloadCompressor.DEFAULT_MAX_DECODED_SIZE, PayloadCompressor.getMaxDecodedSize());
+    }
+    
+    @Test
+    public void serverLimitTest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        CompressionConfig compression = new CompressionConfig();
+        compression.setMaxDecodedSize(1024);
+        ServerConfig config = new ServerConfig();
+        config.setHttpPort(port);
+        config.setCompression(compression);
+        new MessageServer().init(config, null);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(String.format("http://localhost:%d/broker/message", port)))
+                .header("Content-Type", "application/json")
+                .header(ContentEncoding.CONTENT_ENCODING_HEADER, ContentEncoding.GZIP.getName())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(ContentEncoding.GZIP.compress(payload(64 * 1024)))).build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            assertEquals(413, client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        }
+    }
+}
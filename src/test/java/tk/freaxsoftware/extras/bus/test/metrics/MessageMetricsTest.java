@@ -0,0 +1,132 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.metrics;
+
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.MessageBus;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.Receiver;
+import tk.freaxsoftware.extras.bus.annotation.ReflectReceiver;
+import tk.freaxsoftware.extras.bus.bridge.http.MessagePeerSender;
+import tk.freaxsoftware.extras.bus.metrics.LatencyHistogram;
+import tk.freaxsoftware.extras.bus.metrics.MessageMetrics;
+import tk.freaxsoftware.extras.bus.metrics.MetricsSnapshot;
+
+/**
+ * Tests of metrics registry.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class MessageMetricsTest {
+    
+    private static final String TOPIC = "Test.Metrics";
+    
+    @Test
+    public void countersTest() throws Exception {
+        MessageMetrics metrics = new MessageMetrics();
+        Receiver okReceiver = message -> {};
+        Receiver failReceiver = message -> {
+            throw new IllegalStateException("Failed");
+        };
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), null);
+        metrics.fired(TOPIC, 2);
+        metrics.receive(okReceiver, holder);
+        metrics.receive(okReceiver, holder);
+        try {
+            metrics.receive(failReceiver, holder);
+            fail("Exception of receiver should be thrown");
+        } catch (IllegalStateException ex) {
+            //Expected.
+        }
+        MetricsSnapshot.Topic topic = metrics.snapshot(Map.of()).getTopics().get(TOPIC);
+        assertEquals(2, topic.getFired());
+        assertEquals(2, topic.getDelivered());
+        assertEquals(1, topic.getFailed());
+        assertEquals(3, topic.getLatency().getCount());
+        assertEquals(2, topic.getReceivers().get(okReceiver.getClass().getName()).getDelivered());
+        assertEquals(1, topic.getReceivers().get(failReceiver.getClass().getName()).getFailed());
+    }
+    
+    @Test
+    public void nullTopicTest() {
+        MetricsSnapshot.Topic before = MessageBus.getMetrics().snapshot(Map.of()).getTopics().get(MessageMetrics.OTHER_TOPICS);
+        MessageBus.fire(null, "Test", MessageOptions.Builder.newInstance().build());
+        MetricsSnapshot.Topic after = MessageBus.getMetrics().snapshot(Map.of()).getTopics().get(MessageMetrics.OTHER_TOPICS);
+        assertEquals((before != null ? before.getFired() : 0) + 1, after.getFired());
+    }
+    
+    @Test
+    public void histogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        MetricsSnapshot.Latency latency = histogram.snapshot();
+        assertEquals(1000, latency.getCount());
+        assertEquals(1000000, latency.getMax());
+        assertEquals(500500, latency.getMean());
+        assertEquals(500000, latency.getP50(), 500000 / 8);
+        assertEquals(990000, latency.getP99(), 990000 / 8);
+    }
+    
+    @Test
+    public void transfersTest() {
+        MessageMetrics metrics = new MessageMetrics();
+        metrics.transferred("identity", 100, 100, 0);
+        metrics.transferred("gzip", 10000, 1000, 500);
+        metrics.transferred("gzip", 20000, 3000, 700);
+        Map<String, MetricsSnapshot.Transfer> transfers = metrics.snapshot(Map.of()).getTransfers();
+        assertEquals(1, transfers.get("identity").getCount());
+        assertEquals(100, transfers.get("identity").getWireBytes());
+        MetricsSnapshot.Transfer gzip = transfers.get("gzip");
+        assertEquals(2, gzip.getCount());
+        assertEquals(30000, gzip.getRawBytes());
+        assertEquals(4000, gzip.getWireBytes());
+        assertEquals(1200, gzip.getCompressionTime());
+    }
+    
+    @Test
+    public void receiverNamesTest() throws Exception {
+        MessageMetrics metrics = new MessageMetrics();
+        TargetReceiver target = new TargetReceiver();
+        Receiver first = new ReflectReceiver(new String[] {TOPIC}, TargetReceiver.class.getMethod("first", MessageHolder.class), target);
+        Receiver second = new ReflectReceiver(new String[] {TOPIC}, TargetReceiver.class.getMethod("second", MessageHolder.class), target);
+        MessageHolder holder = new MessageHolder(TOPIC, MessageOptions.Builder.newInstance().build(), null);
+        metrics.receive(first, holder);
+        metrics.receive(second, holder);
+        metrics.receive(second, holder);
+        Map<String, MetricsSnapshot.Receiver> receivers = metrics.snapshot(Map.of()).getTopics().get(TOPIC).getReceivers();
+        assertEquals(1, receivers.get(TargetReceiver.class.getName() + "#first").getDelivered());
+        assertEquals(2, receivers.get(TargetReceiver.class.getName() + "#second").getDelivered());
+        assertEquals(MessagePeerSender.class.getName() + "@127.0.0.1:7001", new MessagePeerSender("127.0.0.1", 7001).getName());
+    }
+    
+    /**
+     * Annotated style receiver with several methods.
+     */
+    public static class TargetReceiver {
+        
+        public void first(MessageHolder message) {}
+        
+        public void second(MessageHolder message) {}
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.pool;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.BlockExecutor;
+import tk.freaxsoftware.extras.bus.config.pool.OverflowPolicy;
+import tk.freaxsoftware.extras.bus.exceptions.MessageRejectedException;
+
+/**
+ * Tests bounded queue of block executor.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class BlockExecutorTest {
+    
+    private ExecutorService service;
+    
+    private final CountDownLatch release = new CountDownLatch(1);
+    
+    private final Runnable blockingTask = () -> {
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            //Nothing.
+        }
+    };
+    
+    @Before
+    public void setUp() {
+        service = Executors.newSingleThreadExecutor();
+    }
+    
+    @After
+    public void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+    
+    @Test
+    public void tryExecuteTest() {
+        BlockExecutor executor = new BlockExecutor(service, 1, OverflowPolicy.BLOCK);
+        assertTrue(executor.tryExecuteAsync(blockingTask));
+        assertFalse(executor.tryExecuteAsync(() -> {}));
+    }
+    
+    @Test
+    public void dropTest() {
+        BlockExecutor executor = new BlockExecutor(service, 1, OverflowPolicy.DROP);
+        executor.executeAsync(blockingTask);
+        executor.executeAsync(() -> {});
+        executor.executeAsync(() -> {});
+        assertEquals(2, executor.getDroppedCount());
+    }
+    
+    @Test
+    public void dropCallTest() {
+        BlockExecutor executor = new BlockExecutor(service, 1, OverflowPolicy.DROP);
+        executor.executeCallAsync(blockingTask);
+        try {
+            executor.executeCallAsync(() -> {});
+            fail("Call task is dropped silently");
+        } catch (MessageRejectedException ex) {
+            assertEquals(0, executor.getDroppedCount());
+        }
+    }
+    
+    @Test(expected = MessageRejectedException.class)
+    public void rejectTest() {
+        BlockExecutor executor = new BlockExecutor(service, 1, OverflowPolicy.REJECT);
+        executor.executeAsync(blockingTask);
+        executor.executeAsync(() -> {});
+    }
+    
+    @Test
+    public void callerRunsTest() {
+        BlockExecutor executor = new BlockExecutor(service, 1, OverflowPolicy.CALLER_RUNS);
+        executor.executeAsync(blockingTask);
+        Thread caller = Thread.currentThread();
+        Thread[] runner = new Thread[1];
+        executor.executeAsync(() -> runner[0] = Thread.currentThread());
+        assertSame(caller, runner[0]);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of MessageBus library.
+ * 
+ * Copyright (C) 2026 Freax Software
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library.
+ */
+package tk.freaxsoftware.extras.bus.test.pool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import tk.freaxsoftware.extras.bus.BlockExecutor;
+import tk.freaxsoftware.extras.bus.ExecutorLanes;
+import tk.freaxsoftware.extras.bus.MessageHolder;
+import tk.freaxsoftware.extras.bus.MessageOptions;
+import tk.freaxsoftware.extras.bus.config.pool.LaneConfig;
+import tk.freaxsoftware.extras.bus.config.pool.OverflowPolicy;
+import tk.freaxsoftware.extras.bus.config.pool.SingleThreadPoolConfig;
+import tk.freaxsoftware.extras.bus.config.pool.ThreadPoolConfig;
+
+/**
+ * Tests executor lanes.
+ * @author Stanislav Nepochatov
+ * @since 6.1
+ */
+public class ExecutorLanesTest {
+    
+    private static final String PARTITION_HEADER = "Order.Id";
+    
+    @Test
+    public void orderedLaneTest() throws InterruptedException {
+        BlockExecutor defaultExecutor = new BlockExecutor(Executors.newFixedThreadPool(4));
+        LaneConfig laneConfig = new LaneConfig();
+        laneConfig.setTopicPattern("Order\\..*");
+        laneConfig.setOrdered(true);
+        laneConfig.setPartitionHeader(PARTITION_HEADER);
+        laneConfig.setPartitions(4);
+        ExecutorLanes lanes = new ExecutorLanes(defaultExecutor, List.of(laneConfig));
+        
+        assertSame(defaultExecutor, lanes.getExecutor(holder("Customer.Update", "1")));
+        assertSame(lanes.getExecutor(holder("Order.Update", "1")), lanes.getExecutor(holder("Order.Delete", "1")));
+        
+        int count = 200;
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(count * 2);
+        for (int index = 0; index < count; index++) {
+            final int value = index;
+            lanes.getExecutor(holder("Order.Update", "1")).executeAsync(() -> {
+                first.add(value);
+                latch.countDown();
+            });
+            lanes.getExecutor(holder("Order.Update", "2")).executeAsync(() -> {
+                second.add(value);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int index = 0; index < count; index++) {
+            assertEquals(Integer.valueOf(index), first.get(index));
+            assertEquals(Integer.valueOf(index), second.get(index));
+        }
+    }
+    
+    @Test
+    public void orderedOverflowTest() throws InterruptedException {
+        BlockExecutor defaultExecutor = new BlockExecutor(Executors.newFixedThreadPool(4));
+        ThreadPoolConfig poolConfig = new SingleThreadPoolConfig();
+        poolConfig.setQueueCapacity(2);
+        poolConfig.setOverflowPolicy(OverflowPolicy.CALLER_RUNS);
+        LaneConfig laneConfig = new LaneConfig();
+        laneConfig.setTopicPattern("Order\\..*");
+        laneConfig.setOrdered(true);
+        laneConfig.setThreadPoolConfig(poolConfig);
+        ExecutorLanes lanes = new ExecutorLanes(defaultExecutor, List.of(laneConfig));
+        
+        int count = 50;
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(count);
+        BlockExecutor executor = lanes.getExecutor(holder("Order.Update", "1"));
+        for (int index = 0; index < count; index++) {
+            final int value = index;
+            executor.executeAsync(() -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.add(value);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int index = 0; index < count; index++) {
+            assertEquals(Integer.valueOf(index), processed.get(index));
+        }
+    }
+    
+    private MessageHolder holder(String topic, String orderId) {
+        return new MessageHolder(topic, MessageOptions.Builder.newInstance().async().header(PARTITION_HEADER, orderId).build(), null);
+    }
+}